@@ -2,6 +2,8 @@ package edu.hm.hafner.analysis;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -32,6 +34,19 @@ abstract class AbstractModuleDetector {
      */
     abstract String getPattern();
 
+    /**
+     * Returns the names of the additional files that are read to determine the module name of the specified project
+     * file. The modification times of these files are part of the key of a cached module mapping.
+     *
+     * @param projectFile
+     *         the project file
+     *
+     * @return the additional files that are read, these files do not need to exist
+     */
+    List<String> getAdditionalFiles(final String projectFile) {
+        return List.of();
+    }
+
     AbstractModuleDetector(final FileSystemFacade fileSystemFacade) {
         factory = fileSystemFacade;
     }
@@ -43,6 +58,52 @@ abstract class AbstractModuleDetector {
         }
     }
 
+    /**
+     * Adds the module names of the matching project files to the mapping. The project files are parsed in parallel,
+     * the mapping is updated in the order of the project files afterward.
+     *
+     * @param mapping
+     *         the mapping of path prefixes to module names
+     * @param projects
+     *         the project files
+     * @param isProjectFile
+     *         determines whether a project file should be parsed
+     * @param suffix
+     *         the suffix to remove from the project file name to get the path prefix
+     * @param parser
+     *         the parser that extracts the module name from a project file
+     */
+    void addMappings(final Map<String, String> mapping, final List<String> projects,
+            final Predicate<String> isProjectFile, final String suffix, final Function<String, String> parser) {
+        addMappings(mapping, projects, isProjectFile, fileName -> suffix, parser);
+    }
+
+    /**
+     * Adds the module names of the matching project files to the mapping. The project files are parsed in parallel,
+     * the mapping is updated in the order of the project files afterward.
+     *
+     * @param mapping
+     *         the mapping of path prefixes to module names
+     * @param projects
+     *         the project files
+     * @param isProjectFile
+     *         determines whether a project file should be parsed
+     * @param suffix
+     *         returns the suffix to remove from a project file name to get the path prefix
+     * @param parser
+     *         the parser that extracts the module name from a project file
+     */
+    void addMappings(final Map<String, String> mapping, final List<String> projects,
+            final Predicate<String> isProjectFile, final Function<String, String> suffix,
+            final Function<String, String> parser) {
+        var projectFiles = projects.stream().filter(isProjectFile).toList();
+        var moduleNames = projectFiles.parallelStream().map(parser).toList();
+        for (int i = 0; i < projectFiles.size(); i++) {
+            var projectFile = projectFiles.get(i);
+            addMapping(mapping, projectFile, suffix.apply(projectFile), moduleNames.get(i));
+        }
+    }
+
     public FileSystemFacade getFactory() {
         return factory;
     }
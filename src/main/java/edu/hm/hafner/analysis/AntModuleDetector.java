@@ -27,11 +27,7 @@ class AntModuleDetector extends AbstractModuleDetector {
 
     @Override
     void collectProjects(final Map<String, String> mapping, final List<String> projects) {
-        for (String fileName : projects) {
-            if (fileName.endsWith(ANT_PROJECT)) {
-                addMapping(mapping, fileName, ANT_PROJECT, parseBuildXml(fileName));
-            }
-        }
+        addMappings(mapping, projects, fileName -> fileName.endsWith(ANT_PROJECT), ANT_PROJECT, this::parseBuildXml);
     }
 
     /**
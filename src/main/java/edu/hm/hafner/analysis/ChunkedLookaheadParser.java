@@ -0,0 +1,316 @@
+package edu.hm.hafner.analysis;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apache.commons.lang3.SerializationUtils;
+
+import edu.hm.hafner.util.LookaheadStream;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * Parses huge console logs with a {@link LookaheadParser} in parallel. The log is split into chunks of bytes at line
+ * boundaries, each chunk is then parsed by a copy of the parser using the specified {@link Executor}. If an issue
+ * starts in a chunk, then the parser may consume additional lines of the next chunk (lookahead). The issues of all
+ * chunks are merged in the order of the log.
+ *
+ * <p>
+ * Since the chunks are parsed independently, the directory changes of the preceding chunks are not known when a chunk
+ * is parsed. These directory changes are reconciled afterward: chunks that contain issues that depend on the
+ * directory of the preceding chunks are parsed a second time (in parallel as well) with the correct directory state.
+ * </p>
+ *
+ * <p>
+ * Only parsers that are {@link LookaheadParser#isSplittable() splittable} are parsed in parallel, all other parsers (or
+ * logs with a charset that uses more than one byte for a line break) are parsed sequentially.
+ * </p>
+ *
+ * <p>
+ * Parsing is canceled if the calling thread is interrupted: this is detected when the chunk boundaries are computed
+ * and after all chunks have been parsed. The threads of the executor check their own interrupt status after each line.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+public final class ChunkedLookaheadParser {
+    /** Default size of the chunks: 64 MB. */
+    public static final long DEFAULT_CHUNK_SIZE = 64L * 1024 * 1024;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final byte LF = '\n';
+
+    private final LookaheadParser parser;
+    private final Executor executor;
+    private final long chunkSize;
+
+    /**
+     * Creates a new instance of {@link ChunkedLookaheadParser} that uses chunks of {@link #DEFAULT_CHUNK_SIZE}.
+     *
+     * @param parser
+     *         the parser to use
+     * @param executor
+     *         the executor that parses the chunks
+     */
+    public ChunkedLookaheadParser(final LookaheadParser parser, final Executor executor) {
+        this(parser, executor, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a new instance of {@link ChunkedLookaheadParser}.
+     *
+     * @param parser
+     *         the parser to use
+     * @param executor
+     *         the executor that parses the chunks
+     * @param chunkSize
+     *         the minimum number of bytes of a chunk
+     */
+    public ChunkedLookaheadParser(final LookaheadParser parser, final Executor executor, final long chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("The chunk size must be positive: " + chunkSize);
+        }
+        this.parser = parser;
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Parses the file (given by the reader factory) for issues. The result is the same as the result of
+     * {@link IssueParser#parse(ReaderFactory)}.
+     *
+     * @param readerFactory
+     *         factory to read the console log
+     *
+     * @return the report containing the found issues
+     * @throws ParsingException
+     *         signals that during parsing a non-recoverable error has been occurred
+     * @throws ParsingCanceledException
+     *         signals that the user has aborted the parsing
+     */
+    @SuppressWarnings("PMD.DoNotUseThreads")
+    public Report parse(final FileReaderFactory readerFactory) throws ParsingException, ParsingCanceledException {
+        if (!parser.isSplittable() || !FileLineReader.isSupported(readerFactory.determineCharset())) {
+            return parser.parse(readerFactory);
+        }
+
+        var boundaries = findChunkBoundaries(readerFactory);
+        if (boundaries.size() <= 2) {
+            return parser.parse(readerFactory);
+        }
+
+        List<CompletableFuture<Chunk>> results = new ArrayList<>();
+        for (int i = 0; i < boundaries.size() - 1; i++) {
+            long start = boundaries.get(i);
+            long end = boundaries.get(i + 1);
+            results.add(CompletableFuture.supplyAsync(
+                    () -> parseChunk(readerFactory, start, end, DirectoryState.INITIAL), executor));
+        }
+        var chunks = join(results);
+        if (Thread.interrupted()) {
+            throw new ParsingCanceledException();
+        }
+
+        var report = new Report();
+        for (Chunk chunk : join(reconcileDirectories(readerFactory, chunks))) {
+            report.addAll(chunk.report.get());
+            chunk.report.getInfoMessages().forEach(message -> report.logInfo("%s", message));
+            chunk.report.getErrorMessages().forEach(message -> report.logError("%s", message));
+        }
+
+        var postProcessed = parser.postProcess(report);
+        postProcessed.setOrigin(parser.getId(), parser.getName(), parser.getType(), readerFactory.getFileName());
+        return postProcessed;
+    }
+
+    private List<CompletableFuture<Chunk>> reconcileDirectories(final FileReaderFactory readerFactory,
+            final List<Chunk> chunks) {
+        List<CompletableFuture<Chunk>> reconciled = new ArrayList<>();
+        var inherited = parser.getInitialDirectoryState();
+        for (Chunk chunk : chunks) {
+            if (chunk.hasIssuesInInheritedDirectory && !inherited.equals(DirectoryState.INITIAL)) {
+                var state = inherited;
+                reconciled.add(CompletableFuture.supplyAsync(
+                        () -> parseChunk(readerFactory, chunk.start, chunk.end, state), executor));
+            }
+            else {
+                reconciled.add(CompletableFuture.completedFuture(chunk));
+            }
+            inherited = chunk.parser.getDirectoryState(inherited);
+        }
+        return reconciled;
+    }
+
+    private Chunk parseChunk(final FileReaderFactory readerFactory, final long start, final long end,
+            final DirectoryState inherited) {
+        var copy = SerializationUtils.clone(parser);
+        var report = new Report();
+        boolean hasIssuesInInheritedDirectory = false;
+        try (var lines = new ChunkLines(readerFactory, start, end);
+                var lookahead = new LookaheadStream(lines.stream(), readerFactory.getFileName());
+                var builder = new IssueBuilder()) {
+            copy.inheritDirectoryState(inherited, builder);
+            while (lookahead.hasNext() && lookahead.getLine() < lines.getLinesInChunk()) {
+                int created = report.size() + report.getDuplicatesSize();
+                copy.parseNextLine(report, lookahead, builder);
+                if (report.size() + report.getDuplicatesSize() > created && copy.isDirectoryInherited()) {
+                    hasIssuesInInheritedDirectory = true;
+                }
+            }
+        }
+        return new Chunk(start, end, copy, report, hasIssuesInInheritedDirectory);
+    }
+
+    private <T> List<T> join(final List<CompletableFuture<T>> futures) {
+        try {
+            return futures.stream().map(CompletableFuture::join).toList();
+        }
+        catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw exception;
+        }
+    }
+
+    private List<Long> findChunkBoundaries(final FileReaderFactory readerFactory) {
+        try (var channel = FileChannel.open(readerFactory.getFile(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            List<Long> boundaries = new ArrayList<>();
+            boundaries.add(0L);
+            var buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            long position = chunkSize;
+            while (position < size) {
+                long lineStart = findNextLineStart(channel, position, buffer);
+                if (lineStart >= size) {
+                    break;
+                }
+                boundaries.add(lineStart);
+                position = lineStart + chunkSize;
+            }
+            boundaries.add(size);
+            return boundaries;
+        }
+        catch (ClosedByInterruptException exception) {
+            throw new ParsingCanceledException(exception);
+        }
+        catch (IOException exception) {
+            throw new ParsingException(exception, "Can't read file '%s'", readerFactory.getFileName());
+        }
+    }
+
+    private long findNextLineStart(final FileChannel channel, final long from, final ByteBuffer buffer)
+            throws IOException {
+        long position = from;
+        while (true) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                return Long.MAX_VALUE;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == LF) {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+    }
+
+    /**
+     * The result of parsing a chunk.
+     */
+    private static final class Chunk {
+        private final long start;
+        private final long end;
+        private final LookaheadParser parser;
+        private final Report report;
+        private final boolean hasIssuesInInheritedDirectory;
+
+        Chunk(final long start, final long end, final LookaheadParser parser, final Report report,
+                final boolean hasIssuesInInheritedDirectory) {
+            this.start = start;
+            this.end = end;
+            this.parser = parser;
+            this.report = report;
+            this.hasIssuesInInheritedDirectory = hasIssuesInInheritedDirectory;
+        }
+    }
+
+    /**
+     * Reads the lines of a file starting at a given byte offset. The lines are read until the end of the file so that
+     * a parser can look ahead into the next chunk. The number of lines that start within the chunk is available as
+     * soon as the first line of the next chunk has been read.
+     */
+    private static final class ChunkLines implements Iterator<String>, AutoCloseable {
+        private final FileLineReader reader;
+        private final long end;
+
+        private int lineCount;
+        private int linesInChunk = Integer.MAX_VALUE;
+        @CheckForNull
+        private String nextLine;
+
+        ChunkLines(final FileReaderFactory readerFactory, final long start, final long end) {
+            this.reader = new FileLineReader(readerFactory, start);
+            this.end = end;
+        }
+
+        Stream<String> stream() {
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false);
+        }
+
+        int getLinesInChunk() {
+            return linesInChunk;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (nextLine == null) {
+                nextLine = readLine();
+            }
+            return nextLine != null;
+        }
+
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more lines available");
+            }
+            var result = nextLine;
+            nextLine = null;
+            return result;
+        }
+
+        @CheckForNull
+        private String readLine() {
+            if (reader.getPosition() >= end && linesInChunk == Integer.MAX_VALUE) {
+                linesInChunk = lineCount;
+            }
+            var line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineCount++;
+            return line.toString();
+        }
+
+        @Override
+        public void close() {
+            reader.close();
+        }
+    }
+}
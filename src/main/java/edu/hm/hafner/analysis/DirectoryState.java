@@ -0,0 +1,69 @@
+package edu.hm.hafner.analysis;
+
+import java.util.List;
+import java.util.Objects;
+
+import edu.hm.hafner.util.Generated;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * The directory state of a {@link LookaheadParser} at a given line of a console log: the stack of the directories
+ * that have been entered using Make-like "Entering directory" output and the current directory that is used as prefix
+ * for the file names of the issues.
+ *
+ * @author Ullrich Hafner
+ */
+final class DirectoryState {
+    /** The state at the beginning of a log: no directories have been entered and no directory has been set. */
+    static final DirectoryState INITIAL = new DirectoryState(List.of(), null);
+
+    private final List<String> directories;
+    @CheckForNull
+    private final String current;
+
+    /**
+     * Creates a new instance of {@link DirectoryState}.
+     *
+     * @param directories
+     *         the entered directories, the most recently entered directory is the first element
+     * @param current
+     *         the current directory, or {@code null} if no directory has been set yet
+     */
+    DirectoryState(final List<String> directories, @CheckForNull final String current) {
+        this.directories = List.copyOf(directories);
+        this.current = current;
+    }
+
+    List<String> getDirectories() {
+        return directories;
+    }
+
+    @CheckForNull
+    String getCurrent() {
+        return current;
+    }
+
+    @Override
+    @Generated
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        var that = (DirectoryState) o;
+        return directories.equals(that.directories) && Objects.equals(current, that.current);
+    }
+
+    @Override
+    @Generated
+    public int hashCode() {
+        return Objects.hash(directories, current);
+    }
+
+    @Override
+    public String toString() {
+        return "%s (current: %s)".formatted(directories, current);
+    }
+}
@@ -0,0 +1,103 @@
+package edu.hm.hafner.analysis;
+
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.lang3.StringUtils;
+
+import edu.hm.hafner.util.PathUtil;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * Caches whether files exist. Both existing and missing files are cached. Additionally, the existence of the parent
+ * directories is cached: if a directory does not exist, then none of the files beneath this directory is accessed.
+ * The cache is thread safe.
+ *
+ * @author Ullrich Hafner
+ */
+class FileExistenceCache {
+    private static final PathUtil PATH_UTIL = new PathUtil();
+    private static final char SLASH = '/';
+
+    private final Map<String, Boolean> files = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> directories = new ConcurrentHashMap<>();
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+
+    /**
+     * Returns whether the specified file exists.
+     *
+     * @param absolutePath
+     *         the absolute path of the file, using slashes as separator
+     *
+     * @return {@code true} if the file exists, {@code false} otherwise
+     */
+    boolean exists(final String absolutePath) {
+        var cached = files.get(absolutePath);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+        misses.incrementAndGet();
+        boolean exists = isExistingDirectory(getParent(absolutePath)) && PATH_UTIL.exists(absolutePath);
+        files.put(absolutePath, exists);
+        return exists;
+    }
+
+    private boolean isExistingDirectory(@CheckForNull final String directory) {
+        if (directory == null) {
+            return true; // the root folder or no folder at all
+        }
+        var cached = directories.get(directory);
+        if (cached != null) {
+            return cached;
+        }
+        boolean exists = isExistingDirectory(getParent(directory)) && isDirectory(directory);
+        directories.put(directory, exists);
+        return exists;
+    }
+
+    private boolean isDirectory(final String directory) {
+        try {
+            return Files.isDirectory(Path.of(directory));
+        }
+        catch (InvalidPathException exception) {
+            return false;
+        }
+    }
+
+    @CheckForNull
+    private String getParent(final String path) {
+        int separator = path.lastIndexOf(SLASH);
+        if (separator <= 0) {
+            return null;
+        }
+        var parent = path.substring(0, separator);
+        if (StringUtils.endsWith(parent, ":")) {
+            return null; // root of a Windows drive
+        }
+        return parent;
+    }
+
+    /**
+     * Returns the number of lookups that have been answered from the cache.
+     *
+     * @return the number of cache hits
+     */
+    int getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Returns the number of lookups that required a file system access.
+     *
+     * @return the number of cache misses
+     */
+    int getMisses() {
+        return misses.get();
+    }
+}
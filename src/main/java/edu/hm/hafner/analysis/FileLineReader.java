@@ -0,0 +1,268 @@
+package edu.hm.hafner.analysis;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * Reads the lines of a file using a {@link FileChannel}. The bytes of the file are read into a reusable buffer, each
+ * line is decoded into a reusable {@link CharBuffer} that is returned as {@link CharSequence} view. So no objects are
+ * created for lines that are skipped by a parser: a {@link String} is created only if a parser calls
+ * {@link CharSequence#toString()}. Lines are split in the same way as {@link java.io.BufferedReader#readLine()} does
+ * and are mapped in the same way as {@link ReaderFactory#readStream()} maps the lines.
+ *
+ * <p>
+ * Only charsets that use a single byte for the line break characters are supported, see
+ * {@link #isSupported(Charset)}.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+final class FileLineReader implements AutoCloseable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int INITIAL_LINE_LENGTH = 256;
+    private static final byte LF = '\n';
+    private static final byte CR = '\r';
+    private static final byte[] BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    /**
+     * Returns whether the specified charset is supported by this reader. The line break characters of the charset must
+     * be encoded using a single byte that does not occur within the encoding of any other character.
+     *
+     * @param charset
+     *         the charset to check
+     *
+     * @return {@code true} if the charset is supported, {@code false} otherwise
+     */
+    static boolean isSupported(final Charset charset) {
+        return Arrays.equals("\r\n".getBytes(charset), new byte[] {CR, LF})
+                && (StandardCharsets.UTF_8.equals(charset) || charset.newEncoder().maxBytesPerChar() == 1);
+    }
+
+    private final ReaderFactory readerFactory;
+    private final FileChannel channel;
+    private final CharsetDecoder decoder;
+
+    private ByteBuffer bytes;
+    private CharBuffer chars = CharBuffer.allocate(INITIAL_LINE_LENGTH);
+    private long bufferOffset; // the position of the first byte of the buffer in the file
+    private boolean isEndOfFile;
+
+    /**
+     * Creates a new instance of {@link FileLineReader} that reads the lines of the whole file.
+     *
+     * @param readerFactory
+     *         the factory that provides the file and charset
+     */
+    FileLineReader(final FileReaderFactory readerFactory) {
+        this(readerFactory, 0);
+    }
+
+    /**
+     * Creates a new instance of {@link FileLineReader} that reads the lines starting at the specified position.
+     *
+     * @param readerFactory
+     *         the factory that provides the file and charset
+     * @param start
+     *         the position of the first byte to read, must be the start of a line
+     */
+    FileLineReader(final FileReaderFactory readerFactory, final long start) {
+        this(readerFactory, start, BUFFER_SIZE);
+    }
+
+    @SuppressWarnings("PMD.CloseResource")
+    FileLineReader(final FileReaderFactory readerFactory, final long start, final int bufferSize) {
+        this.readerFactory = readerFactory;
+        this.decoder = readerFactory.determineCharset().newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.bytes = ByteBuffer.allocate(bufferSize).flip();
+        this.bufferOffset = start;
+        try {
+            channel = FileChannel.open(readerFactory.getFile(), StandardOpenOption.READ);
+            try {
+                channel.position(start);
+                if (start == 0) {
+                    skipByteOrderMark();
+                }
+            }
+            catch (IOException exception) {
+                channel.close();
+                throw exception;
+            }
+        }
+        catch (ClosedByInterruptException exception) {
+            throw new ParsingCanceledException(exception);
+        }
+        catch (IOException exception) {
+            throw new ParsingException(exception, "Can't read file '%s'", readerFactory.getFileName());
+        }
+    }
+
+    private void skipByteOrderMark() throws IOException {
+        boolean hasMoreBytes = true;
+        while (bytes.remaining() < BOM.length && hasMoreBytes) {
+            hasMoreBytes = fill();
+        }
+        if (bytes.remaining() >= BOM.length
+                && bytes.get(0) == BOM[0] && bytes.get(1) == BOM[1] && bytes.get(2) == BOM[2]) {
+            bytes.position(BOM.length);
+        }
+    }
+
+    /**
+     * Returns the position of the next line in the file.
+     *
+     * @return the position of the first byte of the next line
+     */
+    long getPosition() {
+        return bufferOffset + bytes.position();
+    }
+
+    /**
+     * Reads the next line. The returned view is valid until the next call of this method. If the line needs to be
+     * mapped by the {@link ReaderFactory}, then the mapped line is returned as {@link String}.
+     *
+     * @return the next line, or {@code null} if the end of the file has been reached
+     * @throws ParsingException
+     *         if the file could not be read
+     * @throws ParsingCanceledException
+     *         if the reading thread has been interrupted
+     */
+    @CheckForNull
+    CharSequence readLine() {
+        try {
+            if (!isAvailable()) {
+                return null;
+            }
+            int end = findLineBreak();
+            decode(end);
+            skipLineBreak();
+
+            if (readerFactory.isMappingRequired(chars)) {
+                return readerFactory.mapLine(chars.toString());
+            }
+            return chars;
+        }
+        catch (ClosedByInterruptException exception) {
+            throw new ParsingCanceledException(exception);
+        }
+        catch (IOException exception) {
+            throw new ParsingException(exception, "Can't read file '%s'", readerFactory.getFileName());
+        }
+    }
+
+    private int findLineBreak() throws IOException {
+        int index = bytes.position();
+        while (true) {
+            if (index == bytes.limit()) {
+                int scanned = index - bytes.position();
+                if (!fill()) {
+                    return bytes.limit();
+                }
+                index = bytes.position() + scanned;
+            }
+            else {
+                byte b = bytes.get(index);
+                if (b == LF || b == CR) {
+                    return index;
+                }
+                index++;
+            }
+        }
+    }
+
+    private void decode(final int end) {
+        int limit = bytes.limit();
+        bytes.limit(end);
+        decoder.reset();
+        chars.clear();
+        var result = decoder.decode(bytes, chars, true);
+        while (result.isOverflow()) {
+            grow();
+            result = decoder.decode(bytes, chars, true);
+        }
+        result = decoder.flush(chars);
+        while (result.isOverflow()) {
+            grow();
+            result = decoder.flush(chars);
+        }
+        chars.flip();
+        bytes.limit(limit);
+    }
+
+    private void grow() {
+        var larger = CharBuffer.allocate(chars.capacity() * 2);
+        chars.flip();
+        larger.put(chars);
+        chars = larger;
+    }
+
+    private void skipLineBreak() throws IOException {
+        if (!bytes.hasRemaining()) {
+            return; // last line without line break
+        }
+        if (bytes.get() == CR && isAvailable() && bytes.get(bytes.position()) == LF) {
+            bytes.get();
+        }
+    }
+
+    private boolean isAvailable() throws IOException {
+        while (!bytes.hasRemaining()) {
+            if (!fill()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads more bytes into the buffer. The unread bytes of the buffer are retained, if the buffer is full then the
+     * buffer will be enlarged.
+     *
+     * @return {@code true} if new bytes have been read, {@code false} if the end of the file has been reached
+     * @throws IOException
+     *         if the file could not be read
+     */
+    private boolean fill() throws IOException {
+        if (isEndOfFile) {
+            return false;
+        }
+        if (bytes.position() == 0 && bytes.limit() == bytes.capacity()) {
+            var larger = ByteBuffer.allocate(bytes.capacity() * 2);
+            larger.put(bytes);
+            bytes = larger;
+        }
+        else {
+            bufferOffset += bytes.position();
+            bytes.compact();
+        }
+        int read = channel.read(bytes);
+        bytes.flip();
+        if (read < 0) {
+            isEndOfFile = true;
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        }
+        catch (IOException exception) {
+            throw new ParsingException(exception, "Can't close file '%s'", readerFactory.getFileName());
+        }
+    }
+}
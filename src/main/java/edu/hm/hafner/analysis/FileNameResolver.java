@@ -1,7 +1,13 @@
 package edu.hm.hafner.analysis;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -9,7 +15,10 @@ import edu.hm.hafner.util.PathUtil;
 
 /**
  * Resolves the affected files of a set of issues in a given source directory. Replaces all file names with the
- * relative file names in this folder. File names that cannot be resolved will be left unchanged.
+ * relative file names in this folder. File names that cannot be resolved will be left unchanged. The existence of the
+ * files is checked using the configured {@link Executor}: by default the common {@link ForkJoinPool} is used. The
+ * results of these checks are cached, so if the same resolver is used several times, then each file (and each
+ * missing directory) is accessed only once.
  *
  * @author Ullrich Hafner
  */
@@ -17,6 +26,29 @@ public class FileNameResolver {
     static final String NOTHING_TO_DO = "-> none of the issues requires resolving of paths";
     private static final PathUtil PATH_UTIL = new PathUtil();
 
+    private final Executor executor;
+    private final FileExistenceCache existenceCache = new FileExistenceCache();
+
+    /**
+     * Creates a new instance of {@link FileNameResolver} that checks the files using the common {@link ForkJoinPool}.
+     */
+    public FileNameResolver() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new instance of {@link FileNameResolver} that checks the files using the specified executor. Use an
+     * executor with a limited number of threads (e.g., {@link java.util.concurrent.Executors#newFixedThreadPool(int)})
+     * to limit the number of concurrent file system accesses, e.g. on a network file system. The same executor can be
+     * shared with a {@link PackageNameResolver}. The executor is not shut down by this resolver.
+     *
+     * @param executor
+     *         the executor that checks the existence of the affected files
+     */
+    public FileNameResolver(final Executor executor) {
+        this.executor = executor;
+    }
+
     /**
      * Resolves the file names of the affected files of the specified set of issues.
      *
@@ -40,11 +72,15 @@ public class FileNameResolver {
             return;
         }
 
-        Map<String, String> pathMapping = filesToProcess.parallelStream()
-                .collect(Collectors.toMap(fileName -> fileName,
-                        fileName -> makeRelative(sourceDirectoryPrefix, fileName)))
-                .entrySet().parallelStream()
-                .filter(entry -> PATH_UTIL.exists(entry.getValue(), sourceDirectoryPrefix))
+        int hits = existenceCache.getHits();
+        int misses = existenceCache.getMisses();
+        List<CompletableFuture<Optional<Map.Entry<String, String>>>> results = new ArrayList<>();
+        for (String fileName : filesToProcess) {
+            results.add(CompletableFuture.supplyAsync(() -> resolve(sourceDirectoryPrefix, fileName), executor));
+        }
+        Map<String, String> pathMapping = results.stream()
+                .map(CompletableFuture::join)
+                .flatMap(Optional::stream)
                 .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
 
         try (var builder = new IssueBuilder()) {
@@ -53,8 +89,18 @@ public class FileNameResolver {
                     .forEach(issue -> issue.setFileName(sourceDirectoryPrefix,
                             builder.internFileName(pathMapping.get(issue.getFileName()))));
         }
-        report.logInfo("-> resolved paths in source directory (%d found, %d not found)",
-                pathMapping.size(), filesToProcess.size() - pathMapping.size());
+        report.markAsModified();
+        report.logInfo("-> resolved paths in source directory (%d found, %d not found, cache: %d hits, %d misses)",
+                pathMapping.size(), filesToProcess.size() - pathMapping.size(),
+                existenceCache.getHits() - hits, existenceCache.getMisses() - misses);
+    }
+
+    private Optional<Map.Entry<String, String>> resolve(final String sourceDirectoryPrefix, final String fileName) {
+        var relativePath = makeRelative(sourceDirectoryPrefix, fileName);
+        if (existenceCache.exists(PATH_UTIL.createAbsolutePath(sourceDirectoryPrefix, relativePath))) {
+            return Optional.of(Map.entry(fileName, relativePath));
+        }
+        return Optional.empty();
     }
 
     private String makeRelative(final String sourceDirectoryPrefix, final String fileName) {
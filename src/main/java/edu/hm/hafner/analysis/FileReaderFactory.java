@@ -62,12 +62,9 @@ public class FileReaderFactory extends ReaderFactory {
     @Override @MustBeClosed
     public Reader create() {
         try {
-            if (isCharsetUndetected) {
-                charset = detectCharset(Files.newInputStream(file));
-            }
             var inputStream = Files.newInputStream(file);
             var bomInputStream = BOMInputStream.builder().setInputStream(inputStream).get();
-            return new InputStreamReader(bomInputStream, getCharset());
+            return new InputStreamReader(bomInputStream, determineCharset());
         }
         catch (FileNotFoundException | InvalidPathException exception) {
             throw new ParsingException(exception, "Can't find file '%s'", fileName);
@@ -77,6 +74,29 @@ public class FileReaderFactory extends ReaderFactory {
         }
     }
 
+    /**
+     * Returns the charset to read the file with. If no charset has been specified, then the charset will be detected
+     * from the XML header of the file.
+     *
+     * @return the charset
+     * @throws ParsingException
+     *         if the file could not be read
+     */
+    Charset determineCharset() {
+        if (isCharsetUndetected) {
+            try {
+                charset = detectCharset(Files.newInputStream(file));
+            }
+            catch (FileNotFoundException | InvalidPathException exception) {
+                throw new ParsingException(exception, "Can't find file '%s'", fileName);
+            }
+            catch (IOException | UncheckedIOException exception) {
+                throw new ParsingException(exception, "Can't parse file '%s'", fileName);
+            }
+        }
+        return getCharset();
+    }
+
     @CheckForNull
     private Charset detectCharset(final InputStream inputStream) throws IOException {
         try (var reader = new InputStreamReader(inputStream, StandardCharsets.US_ASCII)) {
@@ -93,6 +113,15 @@ public class FileReaderFactory extends ReaderFactory {
         return null;
     }
 
+    /**
+     * Returns the file that will be read by this factory.
+     *
+     * @return the file
+     */
+    Path getFile() {
+        return file;
+    }
+
     /**
      * Returns the absolute path of the resource. The file name uses UNIX path separators.
      *
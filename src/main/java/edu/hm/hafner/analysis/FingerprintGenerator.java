@@ -7,8 +7,16 @@ import java.nio.charset.Charset;
 import java.nio.charset.MalformedInputException;
 import java.nio.file.InvalidPathException;
 import java.nio.file.NoSuchFileException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -16,9 +24,11 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 import edu.hm.hafner.util.FilteredLog;
 import edu.hm.hafner.util.VisibleForTesting;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 
 /**
- * Creates fingerprints for a set of issues.
+ * Creates fingerprints for a set of issues. The affected files are processed using the configured {@link Executor}: by
+ * default all files are processed sequentially in the calling thread.
  *
  * @author Ullrich Hafner
  */
@@ -26,8 +36,31 @@ public class FingerprintGenerator {
     private static final Set<String> NON_SOURCE_CODE_EXTENSIONS = Set.of(
             "o", "exe", "dll", "so", "a", "lib", "jar", "war", "zip", "7z", "gz", "bz2");
 
+    private final Executor executor;
+
+    /**
+     * Creates a new instance of {@link FingerprintGenerator} that processes all files sequentially.
+     */
+    public FingerprintGenerator() {
+        this(Runnable::run);
+    }
+
+    /**
+     * Creates a new instance of {@link FingerprintGenerator} that processes the files in parallel. Each affected file is
+     * processed as a separate task of the specified executor, e.g. a {@link java.util.concurrent.ForkJoinPool}. The
+     * executor is not shut down by this generator.
+     *
+     * @param executor
+     *         the executor that reads the affected files and computes the fingerprints
+     */
+    public FingerprintGenerator(final Executor executor) {
+        this.executor = executor;
+    }
+
     /**
-     * Creates fingerprints for the specified set of issues.
+     * Creates fingerprints for the specified set of issues. The issues are grouped by their affected files so that
+     * every file is read only once. The log messages are merged in the order of the affected files, independent of the
+     * order in which the files have been processed.
      *
      * @param algorithm
      *         fingerprinting algorithm
@@ -38,17 +71,28 @@ public class FingerprintGenerator {
      */
     public void run(final FullTextFingerprint algorithm, final Report report, final Charset charset) {
         var log = new FilteredLog("Can't create fingerprints for some files:");
-        int sum = 0;
+        Map<String, List<Issue>> issuesByFile = new LinkedHashMap<>();
         for (Issue issue : report) {
             if (!issue.hasFingerprint()) {
-                if (hasAllowedExtension(issue.getFileName())) {
-                    sum += computeFingerprint(issue, algorithm, charset, log);
+                if (issue.hasFileName() && hasAllowedExtension(issue.getFileName())) {
+                    issuesByFile.computeIfAbsent(issue.getAbsolutePath(), key -> new ArrayList<>()).add(issue);
                 }
                 else {
                     issue.setFingerprint(createDefaultFingerprint(issue));
                 }
             }
         }
+        List<CompletableFuture<FileResult>> results = new ArrayList<>();
+        for (Map.Entry<String, List<Issue>> file : issuesByFile.entrySet()) {
+            results.add(CompletableFuture.supplyAsync(
+                    () -> computeFingerprints(file.getKey(), file.getValue(), algorithm, charset), executor));
+        }
+        int sum = 0;
+        for (CompletableFuture<FileResult> result : results) {
+            var fileResult = result.join();
+            sum += fileResult.getCount();
+            fileResult.getError().ifPresent(log::logError);
+        }
         report.mergeLogMessages(log);
         report.logInfo("-> created fingerprints for %d issues (skipped %d issues)", sum, report.size() - sum);
     }
@@ -62,29 +106,28 @@ public class FingerprintGenerator {
         }
     }
 
-    private int computeFingerprint(final Issue issue, final FullTextFingerprint algorithm, final Charset charset,
-            final FilteredLog log) {
-        var absolutePath = issue.getAbsolutePath();
+    private FileResult computeFingerprints(final String absolutePath, final List<Issue> issues,
+            final FullTextFingerprint algorithm, final Charset charset) {
+        String error;
         try {
-            if (issue.hasFileName()) {
-                var digest = algorithm.compute(absolutePath, issue.getLineStart(), charset);
-                issue.setFingerprint(digest);
-                return 1;
-            }
+            var lines = issues.stream().map(Issue::getLineStart).collect(Collectors.toSet());
+            var fingerprints = algorithm.compute(absolutePath, lines, charset);
+            issues.forEach(issue -> issue.setFingerprint(fingerprints.get(issue.getLineStart())));
+            return new FileResult(issues.size());
         }
         catch (FileNotFoundException | NoSuchFileException exception) {
-            log.logError("- '%s' file not found", absolutePath);
+            error = "- '%s' file not found".formatted(absolutePath);
         }
         catch (IOException | InvalidPathException | UncheckedIOException exception) {
             if (exception.getCause() instanceof MalformedInputException) {
-                log.logError("- '%s', provided encoding '%s' seems to be wrong", absolutePath, charset);
+                error = "- '%s', provided encoding '%s' seems to be wrong".formatted(absolutePath, charset);
             }
             else {
-                log.logError("- '%s', IO exception has been thrown: %s", absolutePath, exception);
+                error = "- '%s', IO exception has been thrown: %s".formatted(absolutePath, exception);
             }
         }
-        issue.setFingerprint(createDefaultFingerprint(issue));
-        return 0;
+        issues.forEach(issue -> issue.setFingerprint(createDefaultFingerprint(issue)));
+        return new FileResult(error);
     }
 
     @VisibleForTesting
@@ -98,4 +141,31 @@ public class FingerprintGenerator {
                         .append(issue.getOrigin())
                         .append(issue.getLineStart()).build());
     }
+
+    /**
+     * The result of fingerprinting the issues of a single file.
+     */
+    private static class FileResult {
+        private final int count;
+        @CheckForNull
+        private final String error;
+
+        FileResult(final int count) {
+            this.count = count;
+            this.error = null;
+        }
+
+        FileResult(final String error) {
+            this.count = 0;
+            this.error = error;
+        }
+
+        int getCount() {
+            return count;
+        }
+
+        Optional<String> getError() {
+            return Optional.ofNullable(error);
+        }
+    }
 }
@@ -7,8 +7,15 @@ import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
@@ -21,6 +28,7 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 /**
  * Creates a fingerprint of the specified issue using the source code at the affected line. The fingerprint is computed
  * using the 1:1 content of a small number of lines before and after the affected line (see {@link #LINES_LOOK_AHEAD}).
+ * Instances of this class are thread-safe: every thread uses its own {@link MessageDigest}.
  *
  * @author Ullrich Hafner
  */
@@ -30,8 +38,9 @@ public class FullTextFingerprint {
     private static final int LINE_RANGE_BUFFER_SIZE = 1000;
     private static final char[] HEX_CHARACTERS = "0123456789ABCDEF".toCharArray();
 
-    @SuppressWarnings("PMD.AvoidMessageDigestField")
-    private final MessageDigest digest;
+    private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(
+            FullTextFingerprint::createMessageDigest);
+
     private final FileSystem fileSystem;
 
     /**
@@ -42,11 +51,14 @@ public class FullTextFingerprint {
     }
 
     @VisibleForTesting
-    @SuppressFBWarnings(value = "WEAK_MESSAGE_DIGEST_MD5", justification = "The fingerprint is just used to track new warnings")
     FullTextFingerprint(final FileSystem fileSystem) {
         this.fileSystem = fileSystem;
+    }
+
+    @SuppressFBWarnings(value = "WEAK_MESSAGE_DIGEST_MD5", justification = "The fingerprint is just used to track new warnings")
+    private static MessageDigest createMessageDigest() {
         try {
-            digest = MessageDigest.getInstance("MD5"); // lgtm [java/weak-cryptographic-algorithm]
+            return MessageDigest.getInstance("MD5"); // lgtm [java/weak-cryptographic-algorithm]
         }
         catch (NoSuchAlgorithmException e) {
             throw new IllegalStateException(e);
@@ -76,6 +88,29 @@ public class FullTextFingerprint {
         }
     }
 
+    /**
+     * Creates the fingerprints for several lines of the same file. The file will be read only once: the context of
+     * all requested lines is collected in a single pass over the lines of the file. The fingerprint of each line is
+     * the same as the fingerprint that is computed by {@link #compute(String, int, Charset)}.
+     *
+     * @param fileName
+     *         the absolute path of the affected file
+     * @param lines
+     *         the lines of the issues in the affected file
+     * @param charset
+     *         the encoding to be used when reading the affected file
+     *
+     * @return a mapping of: line number to the fingerprint of the selected range of source code lines
+     * @throws IOException
+     *         if the file could not be read
+     */
+    public Map<Integer, String> compute(final String fileName, final Collection<Integer> lines,
+            final Charset charset) throws IOException {
+        try (Stream<String> content = fileSystem.readLinesFromFile(fileName, charset)) {
+            return createFingerprints(lines, content, charset);
+        }
+    }
+
     @VisibleForTesting
     String getFallbackFingerprint(final String fileName) {
         return String.format(Locale.ENGLISH, "%x", fileName.hashCode());
@@ -85,6 +120,22 @@ public class FullTextFingerprint {
     String createFingerprint(final int line, final Stream<String> lines, final Charset charset) {
         var context = extractContext(line, lines.iterator());
         lines.close();
+
+        return createDigest(context, charset);
+    }
+
+    @VisibleForTesting
+    Map<Integer, String> createFingerprints(final Collection<Integer> affectedLines, final Stream<String> lines,
+            final Charset charset) {
+        Map<Integer, String> fingerprints = new HashMap<>();
+        extractContexts(affectedLines, lines.iterator()).forEach(
+                (line, context) -> fingerprints.put(line, createDigest(context, charset)));
+        lines.close();
+        return fingerprints;
+    }
+
+    private String createDigest(final String context, final Charset charset) {
+        var digest = DIGEST.get();
         digest.update(context.getBytes(charset));
 
         return asHex(digest.digest()).toUpperCase(Locale.ENGLISH);
@@ -120,6 +171,63 @@ public class FullTextFingerprint {
         return context.toString();
     }
 
+    /**
+     * Extracts the contexts of all affected lines in a single pass. Only a sliding window of the last lines is kept in
+     * memory, so the whole file is never materialized.
+     *
+     * @param affectedLines
+     *         the affected lines
+     * @param lines
+     *         the lines of the file
+     *
+     * @return a mapping of: affected line to the context of this line
+     */
+    @VisibleForTesting
+    Map<Integer, String> extractContexts(final Collection<Integer> affectedLines, final Iterator<String> lines) {
+        Map<Integer, String> contexts = new HashMap<>();
+        NavigableMap<Integer, Collection<Integer>> affectedByEndLine = new TreeMap<>();
+        for (Integer affectedLine : affectedLines) {
+            if (affectedLine < 0) {
+                contexts.put(affectedLine, StringUtils.EMPTY);
+            }
+            else {
+                affectedByEndLine.computeIfAbsent(computeStartLine(affectedLine) + LINES_LOOK_AHEAD,
+                        key -> new ArrayDeque<>()).add(affectedLine);
+            }
+        }
+
+        var window = new ArrayDeque<String>(2 * LINES_LOOK_AHEAD + 1);
+        int line = 0;
+        while (!affectedByEndLine.isEmpty() && lines.hasNext()) {
+            line++;
+            if (window.size() == 2 * LINES_LOOK_AHEAD + 1) {
+                window.removeFirst();
+            }
+            window.addLast(lines.next());
+
+            var completed = affectedByEndLine.remove(line);
+            if (completed != null) {
+                var context = String.join(StringUtils.EMPTY, window);
+                completed.forEach(affectedLine -> contexts.put(affectedLine, context));
+            }
+        }
+        for (Map.Entry<Integer, Collection<Integer>> remaining : affectedByEndLine.entrySet()) {
+            var context = extractTail(window, line, remaining.getKey());
+            remaining.getValue().forEach(affectedLine -> contexts.put(affectedLine, context));
+        }
+
+        return contexts;
+    }
+
+    private String extractTail(final ArrayDeque<String> window, final int lastLine, final int endLine) {
+        int firstLine = endLine - 2 * LINES_LOOK_AHEAD;
+        if (firstLine > lastLine) {
+            return StringUtils.EMPTY;
+        }
+        int skip = Math.max(0, firstLine - (lastLine - window.size() + 1));
+        return window.stream().skip(skip).collect(Collectors.joining());
+    }
+
     private int computeStartLine(final int affectedLine) {
         if (affectedLine == 0) { // indicates the whole file
             return LINES_LOOK_AHEAD + 1;
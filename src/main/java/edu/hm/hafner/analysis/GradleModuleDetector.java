@@ -40,14 +40,17 @@ class GradleModuleDetector extends AbstractModuleDetector {
 
     @Override
     public void collectProjects(final Map<String, String> mapping, final List<String> projects) {
-        for (String fileName : projects) {
-            if (fileName.endsWith(BUILD_GRADLE) || fileName.endsWith(BUILD_GRADLE_KTS)) {
-                addMapping(mapping, fileName, BUILD_GRADLE, parseGradle(fileName));
-            }
-            else if (fileName.endsWith(SETTINGS_GRADLE) || fileName.endsWith(SETTINGS_GRADLE_KTS)) {
-                addMapping(mapping, fileName, SETTINGS_GRADLE, parseGradleSettings(fileName));
-            }
-        }
+        addMappings(mapping, projects, fileName -> isBuildScript(fileName) || isSettings(fileName),
+                fileName -> isBuildScript(fileName) ? BUILD_GRADLE : SETTINGS_GRADLE,
+                fileName -> isBuildScript(fileName) ? parseGradle(fileName) : parseGradleSettings(fileName));
+    }
+
+    private boolean isBuildScript(final String fileName) {
+        return fileName.endsWith(BUILD_GRADLE) || fileName.endsWith(BUILD_GRADLE_KTS);
+    }
+
+    private boolean isSettings(final String fileName) {
+        return fileName.endsWith(SETTINGS_GRADLE) || fileName.endsWith(SETTINGS_GRADLE_KTS);
     }
 
     /**
@@ -4,6 +4,7 @@ import java.io.Serial;
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -34,6 +35,31 @@ public class Issue implements Serializable {
 
     static final String UNDEFINED = "-";
 
+    /**
+     * Accessors for the properties that are typically used to group or filter issues. These accessors are used instead
+     * of the slow reflection based access of the corresponding Java Bean properties.
+     */
+    private static final Map<String, Function<Issue, String>> PROPERTY_ACCESSORS = Map.ofEntries(
+            Map.entry("fileName", Issue::getFileName),
+            Map.entry("baseName", Issue::getBaseName),
+            Map.entry("folder", Issue::getFolder),
+            Map.entry("absolutePath", Issue::getAbsolutePath),
+            Map.entry("path", Issue::getPath),
+            Map.entry("packageName", Issue::getPackageName),
+            Map.entry("moduleName", Issue::getModuleName),
+            Map.entry("category", Issue::getCategory),
+            Map.entry("type", Issue::getType),
+            Map.entry("severity", issue -> issue.getSeverity().toString()),
+            Map.entry("origin", Issue::getOrigin),
+            Map.entry("originName", Issue::getOriginName),
+            Map.entry("message", Issue::getMessage),
+            Map.entry("description", Issue::getDescription),
+            Map.entry("lineStart", issue -> String.valueOf(issue.getLineStart())),
+            Map.entry("lineEnd", issue -> String.valueOf(issue.getLineEnd())),
+            Map.entry("columnStart", issue -> String.valueOf(issue.getColumnStart())),
+            Map.entry("columnEnd", issue -> String.valueOf(issue.getColumnEnd())),
+            Map.entry("id", issue -> issue.getId().toString()));
+
     /**
      * Returns the value of the property with the specified name for a given issue instance.
      *
@@ -45,17 +71,13 @@ public class Issue implements Serializable {
      * @return the function that obtains the value
      */
     public static String getPropertyValueAsString(final Issue issue, final String propertyName) {
-        try {
-            return PropertyUtils.getProperty(issue, propertyName).toString();
-        }
-        catch (IllegalAccessException | InvocationTargetException | NoSuchMethodException ignored) {
-            return propertyName;
-        }
+        return getPropertyValueGetter(propertyName).apply(issue);
     }
 
     /**
      * Returns a function that can dynamically obtain the value of the property with the specified name of an issue
-     * instance.
+     * instance. The most important properties are obtained using a direct method call, all other properties are
+     * obtained using reflection.
      *
      * @param propertyName
      *         the name of the property
@@ -63,7 +85,16 @@ public class Issue implements Serializable {
      * @return the function that obtains the value
      */
     public static Function<Issue, String> getPropertyValueGetter(final String propertyName) {
-        return issue -> getPropertyValueAsString(issue, propertyName);
+        return PROPERTY_ACCESSORS.getOrDefault(propertyName, issue -> getPropertyValueByReflection(issue, propertyName));
+    }
+
+    private static String getPropertyValueByReflection(final Issue issue, final String propertyName) {
+        try {
+            return PropertyUtils.getProperty(issue, propertyName).toString();
+        }
+        catch (IllegalAccessException | InvocationTargetException | NoSuchMethodException ignored) {
+            return propertyName;
+        }
     }
 
     /**
@@ -194,6 +225,8 @@ public class Issue implements Serializable {
     private String fingerprint;     // mutable, not part of equals
     private boolean partOfModifiedCode;     // mutable, not part of equals
 
+    private transient int cachedHashCode;   // 0 if not yet computed, reset by the setters of mutable properties
+
     /**
      * Creates a new instance of {@link Issue} using the properties of the other issue instance. The new issue has the
      * same ID as the copy.
@@ -551,6 +584,8 @@ public class Issue implements Serializable {
     void setFileName(final String pathName, final TreeString fileName) {
         this.pathName = normalizeFileName(pathName);
         this.fileName = fileName;
+
+        invalidateHashCode();
     }
 
     /**
@@ -718,6 +753,8 @@ public class Issue implements Serializable {
      */
     void setPackageName(final TreeString packageName) {
         this.packageName = packageName;
+
+        invalidateHashCode();
     }
 
     /**
@@ -747,6 +784,8 @@ public class Issue implements Serializable {
      */
     void setModuleName(@CheckForNull final String moduleName) {
         this.moduleName = stripToEmpty(moduleName);
+
+        invalidateHashCode();
     }
 
     /**
@@ -791,6 +830,8 @@ public class Issue implements Serializable {
         Ensure.that(origin).isNotBlank("Issue origin ID '%s' must be not blank (%s)", id, toString());
 
         this.origin = origin.intern();
+
+        invalidateHashCode();
     }
 
     /**
@@ -807,6 +848,8 @@ public class Issue implements Serializable {
         Ensure.that(name).isNotBlank("Issue origin name '%s' must be not blank (%s)", name, toString());
 
         this.originName = name.intern();
+
+        invalidateHashCode();
     }
 
     /**
@@ -958,6 +1001,22 @@ public class Issue implements Serializable {
 
     @Override
     public int hashCode() {
+        if (cachedHashCode == 0) {
+            cachedHashCode = computeHashCode();
+        }
+        return cachedHashCode;
+    }
+
+    /**
+     * Invalidates the cached hash code after a property of this issue has been changed. Hash based containers that
+     * already contain this issue are not updated: the owning {@link Report} needs to be rehashed using
+     * {@link Report#markAsModified()}.
+     */
+    private void invalidateHashCode() {
+        cachedHashCode = 0;
+    }
+
+    int computeHashCode() {
         int result = category.hashCode();
         result = 31 * result + type.hashCode();
         result = 31 * result + severity.hashCode();
@@ -974,7 +1033,7 @@ public class Issue implements Serializable {
         result = 31 * result + moduleName.hashCode();
         result = 31 * result + packageName.hashCode();
         result = 31 * result + fileName.hashCode();
-        return result;
+        return result == 0 ? 1 : result; // 0 marks a hash code that has not been computed yet
     }
 
     @Override
@@ -2,12 +2,12 @@ package edu.hm.hafner.analysis;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.Set;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
@@ -15,18 +15,32 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
  * Computes old, new, and fixed issues based on the reports of two consecutive static analysis runs for the same
  * software artifact.
  *
+ * <p>
+ * The issues are matched in two passes: the first pass matches current issues with equal reference issues, the
+ * second pass matches the remaining current issues with reference issues that have the same fingerprint. Both passes
+ * use a {@link ReferenceIndex}, so the difference is computed in linear time with respect to the number of issues.
+ * Matched reference issues are marked rather than removed from the result reports, the four result reports are created
+ * once at the end. If the results should not be kept in memory, then use a {@link StreamingIssueDifference}.
+ * </p>
+ *
+ * <p>
+ * Optionally, a third pass matches the remaining current issues with reference issues in the same file that have the
+ * same type and message and that have been moved by a limited number of lines, e.g. since some lines have been
+ * inserted above the issue. This pass is useful if the fingerprints of the issues could not be computed.
+ * </p>
+ *
  * @author Ullrich Hafner
  */
 @SuppressWarnings("PMD.DataClass")
 public class IssueDifference {
-    private static final List<Issue> EMPTY = Collections.emptyList();
-
     private final Report newIssues;
     private final Report newIssuesInChangedCode;
     private final Report fixedIssues;
     private final Report outstandingIssues;
-    private final Map<Integer, List<Issue>> referencesByHash;
-    private final Map<String, List<Issue>> referencesByFingerprint;
+
+    private final ReferenceIndex references;
+    private final Set<Issue> matchedIssues = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final List<Issue> outstanding = new ArrayList<>();
 
     /**
      * Creates a new instance of {@link IssueDifference}.
@@ -58,107 +72,135 @@ public class IssueDifference {
      */
     public IssueDifference(final Report currentIssues, final String referenceId,
             final Report referenceIssues, final Map<String, Integer> includes) {
-        newIssues = currentIssues.copy();
-        fixedIssues = referenceIssues.copy();
-        outstandingIssues = referenceIssues.copyEmptyInstance();
-        newIssuesInChangedCode = currentIssues.copyEmptyInstance();
+        this(currentIssues, referenceId, referenceIssues, includes, 0);
+    }
 
-        referencesByHash = new HashMap<>();
-        referencesByFingerprint = new HashMap<>();
+    /**
+     * Creates a new instance of {@link IssueDifference}.
+     *
+     * @param currentIssues
+     *         the issues of the current report
+     * @param referenceId
+     *         ID identifying the reference report
+     * @param referenceIssues
+     *         the issues of a previous report (reference)
+     * @param includes
+     *         A mapping of files to changed lines. Using this mapping, we can identify which new issues are part
+     *         of the changes and which issues are indirectly caused by the changes.
+     * @param maximumLineShift
+     *         the maximum number of lines an issue may have been moved to be still considered as outstanding issue,
+     *         use 0 to skip matching of moved issues
+     */
+    public IssueDifference(final Report currentIssues, final String referenceId,
+            final Report referenceIssues, final Map<String, Integer> includes, final int maximumLineShift) {
+        references = new ReferenceIndex(referenceIssues);
 
-        for (Issue issue : referenceIssues) {
-            addIssueToMap(referencesByHash, issue.hashCode(), issue);
-            addIssueToMap(referencesByFingerprint, issue.getFingerprint(), issue);
+        List<Issue> unmatched = matchIssuesByEquals(currentIssues);
+        List<Issue> added = matchIssuesByFingerprint(unmatched);
+        if (maximumLineShift > 0) {
+            added = matchIssuesByLineShift(added, maximumLineShift);
         }
+        added.forEach(issue -> issue.setReference(referenceId));
 
-        List<UUID> removed = matchIssuesByEquals(currentIssues);
-        var secondPass = currentIssues.copy();
-        removed.forEach(secondPass::remove);
-        matchIssuesByFingerprint(secondPass);
-
-        newIssues.forEach(issue -> issue.setReference(referenceId));
+        Set<Issue> inChangedCode = Collections.newSetFromMap(new IdentityHashMap<>());
+        newIssuesInChangedCode = currentIssues.copyEmptyInstance();
         if (!includes.isEmpty()) {
-            findIssuesInChangedCode(includes);
+            var issuesInChangedCode = findIssuesInChangedCode(added, includes);
+            inChangedCode.addAll(issuesInChangedCode);
+            newIssuesInChangedCode.addAll(issuesInChangedCode);
         }
-    }
-
-    private void findIssuesInChangedCode(final Map<String, Integer> includes) {
-        for (Entry<String, Integer> include : includes.entrySet()) {
-            newIssues.filter(issue -> isInFileAtPosition(issue, include.getKey(), include.getValue()))
-                    .stream()
-                    .map(Issue::getId)
-                    .map(newIssues::remove)
-                    .forEach(newIssuesInChangedCode::add);
-        }
-    }
 
-    private boolean isInFileAtPosition(final Issue issue, final String fileName, final int line) {
-        return issue.getFileName().endsWith(fileName) && issue.affectsLine(line);
+        newIssues = currentIssues.filter(issue -> !matchedIssues.contains(issue) && !inChangedCode.contains(issue));
+        fixedIssues = referenceIssues.filter(issue -> !references.isMatched(issue));
+        outstandingIssues = referenceIssues.copyEmptyInstance();
+        outstandingIssues.addAll(outstanding);
     }
 
-    private List<UUID> matchIssuesByEquals(final Report currentIssues) {
-        List<UUID> removedIds = new ArrayList<>();
+    private List<Issue> matchIssuesByEquals(final Report currentIssues) {
+        List<Issue> unmatched = new ArrayList<>();
         for (Issue current : currentIssues) {
-            List<Issue> equalIssues = findReferenceByEquals(current);
-
-            if (!equalIssues.isEmpty()) {
-                removedIds.add(remove(current, selectIssueWithSameFingerprint(current, equalIssues)));
+            var reference = references.matchByEquals(current);
+            if (reference == null) {
+                unmatched.add(current);
+            }
+            else {
+                match(current, reference);
             }
         }
-        return removedIds;
+        return unmatched;
     }
 
-    private void matchIssuesByFingerprint(final Report currentIssues) {
+    private List<Issue> matchIssuesByFingerprint(final List<Issue> currentIssues) {
+        List<Issue> unmatched = new ArrayList<>();
         for (Issue current : currentIssues) {
-            findReferenceByFingerprint(current).ifPresent(issue -> remove(current, issue));
+            var reference = references.matchByFingerprint(current);
+            if (reference == null) {
+                unmatched.add(current);
+            }
+            else {
+                match(current, reference);
+            }
         }
+        return unmatched;
     }
 
-    private <K> void addIssueToMap(final Map<K, List<Issue>> map, final K key, final Issue issue) {
-        map.computeIfAbsent(key, k -> new ArrayList<>()).add(issue);
-    }
-
-    @SuppressWarnings("NullAway")
-    private <K> void removeIssueFromMap(final Map<K, List<Issue>> map, final K key, final Issue issue) {
-        List<Issue> issues = map.get(key);
-        issues.remove(issue);
-        if (issues.isEmpty()) {
-            map.remove(key);
+    private List<Issue> matchIssuesByLineShift(final List<Issue> currentIssues, final int maximumLineShift) {
+        List<Issue> unmatched = new ArrayList<>();
+        for (Issue current : currentIssues) {
+            var reference = references.matchByLineShift(current, maximumLineShift);
+            if (reference == null) {
+                unmatched.add(current);
+            }
+            else {
+                match(current, reference);
+            }
         }
+        return unmatched;
     }
 
-    private UUID remove(final Issue current, final Issue oldIssue) {
-        var id = current.getId();
-        var issueWithLatestProperties = newIssues.remove(id);
-        issueWithLatestProperties.setReference(oldIssue.getReference());
-        outstandingIssues.add(issueWithLatestProperties);
-        fixedIssues.remove(oldIssue.getId());
-        removeIssueFromMap(referencesByFingerprint, oldIssue.getFingerprint(), oldIssue);
-        removeIssueFromMap(referencesByHash, oldIssue.hashCode(), oldIssue);
-        return id;
-    }
-
-    private Issue selectIssueWithSameFingerprint(final Issue current, final List<Issue> equalIssues) {
-        return equalIssues.stream()
-                .filter(issue -> issue.getFingerprint().equals(current.getFingerprint()))
-                .findFirst()
-                .orElse(equalIssues.get(0));
-    }
-
-    private Optional<Issue> findReferenceByFingerprint(final Issue current) {
-        return referencesByFingerprint.getOrDefault(current.getFingerprint(), EMPTY).stream().findAny();
+    private void match(final Issue current, final Issue reference) {
+        current.setReference(reference.getReference());
+        outstanding.add(current);
+        matchedIssues.add(current);
     }
 
-    private List<Issue> findReferenceByEquals(final Issue current) {
-        List<Issue> equalIssues = new ArrayList<>();
+    /**
+     * Finds the new issues that are part of the changed code. The new issues are grouped by file name so that each
+     * include only needs to inspect the issues of the files that match the include. The order of the result is the
+     * same as if the new issues would have been filtered for each include one after another.
+     *
+     * @param added
+     *         the new issues
+     * @param includes
+     *         the mapping of files to changed lines
+     *
+     * @return the new issues that are part of the changed code
+     */
+    private List<Issue> findIssuesInChangedCode(final List<Issue> added, final Map<String, Integer> includes) {
+        Map<String, List<Integer>> positionsByFileName = new LinkedHashMap<>();
+        for (int position = 0; position < added.size(); position++) {
+            positionsByFileName.computeIfAbsent(added.get(position).getFileName(), key -> new ArrayList<>())
+                    .add(position);
+        }
 
-        for (Issue reference : referencesByHash.getOrDefault(current.hashCode(), EMPTY)) {
-            if (current.equals(reference)) {
-                equalIssues.add(reference);
+        var moved = new boolean[added.size()];
+        List<Issue> issuesInChangedCode = new ArrayList<>();
+        for (Entry<String, Integer> include : includes.entrySet()) {
+            List<Integer> positions = new ArrayList<>();
+            for (Entry<String, List<Integer>> file : positionsByFileName.entrySet()) {
+                if (file.getKey().endsWith(include.getKey())) {
+                    for (int position : file.getValue()) {
+                        if (!moved[position] && added.get(position).affectsLine(include.getValue())) {
+                            moved[position] = true;
+                            positions.add(position);
+                        }
+                    }
+                }
             }
+            Collections.sort(positions);
+            positions.forEach(position -> issuesInChangedCode.add(added.get(position)));
         }
-
-        return equalIssues;
+        return issuesInChangedCode;
     }
 
     /**
@@ -184,6 +226,17 @@ public class IssueDifference {
         return newIssues;
     }
 
+    /**
+     * Returns the new issues that are part of the changed code. I.e., all new issues that affect one of the changed
+     * lines that have been specified when the difference has been computed.
+     *
+     * @return the new issues in changed code
+     */
+    @SuppressFBWarnings("EI")
+    public Report getNewIssuesInChangedCode() {
+        return newIssuesInChangedCode;
+    }
+
     /**
      * Returns the fixed issues. I.e., all issues that are part of the previous report but that are not present in the
      * current report anymore.
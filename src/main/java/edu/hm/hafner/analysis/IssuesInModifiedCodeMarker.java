@@ -1,14 +1,27 @@
 package edu.hm.hafner.analysis;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NavigableMap;
 import java.util.Set;
+import java.util.TreeMap;
 
+import edu.hm.hafner.util.LineRange;
 import edu.hm.hafner.util.PathUtil;
 
 /**
- * Computes old, new, and fixed issues based on the reports of two consecutive static analysis runs for the same
- * software artifact.
+ * Marks all issues that are part of the changes in a source control diff.
+ *
+ * <p>
+ * The issues are indexed by their reversed file names in a sorted map, so all files that end with the name of a
+ * modified file are found with a single range query. The line ranges of the issues in each of these files are then
+ * sorted by their start line and swept together with the sorted modified lines. So each issue and each modified line
+ * is visited only once, no matter how many files have been modified.
+ * </p>
  *
  * @author Ullrich Hafner
  */
@@ -25,16 +38,92 @@ public class IssuesInModifiedCodeMarker {
      *         a mapping modified lines within files
      */
     public void markIssuesInModifiedCode(final Report report, final Map<String, Set<Integer>> modifiedLinesInFilesMapping) {
+        if (modifiedLinesInFilesMapping.isEmpty()) {
+            return;
+        }
+
+        NavigableMap<String, List<Issue>> issuesByReversedFileName = new TreeMap<>();
+        for (Issue issue : report) {
+            issuesByReversedFileName.computeIfAbsent(reverse(issue.getFileName()), key -> new ArrayList<>()).add(issue);
+        }
+
+        var modifiedLinesByFile = new IdentityHashMap<List<Issue>, List<Integer>>();
         for (Entry<String, Set<Integer>> include : modifiedLinesInFilesMapping.entrySet()) {
-            report.filter(issue -> affectsChangedLineInFile(issue, include.getKey(), include.getValue()))
-                    .stream()
-                    .forEach(Issue::markAsPartOfModifiedCode);
+            if (!include.getValue().isEmpty()) {
+                var suffix = reverse(PATH_UTIL.getRelativePath(include.getKey()));
+                for (List<Issue> issuesInFile : issuesByReversedFileName.subMap(
+                        suffix, true, suffix + Character.MAX_VALUE, false).values()) {
+                    modifiedLinesByFile.computeIfAbsent(issuesInFile, key -> new ArrayList<>())
+                            .addAll(include.getValue());
+                }
+            }
+        }
+
+        modifiedLinesByFile.forEach(this::markIssuesInModifiedLines);
+    }
+
+    private String reverse(final String fileName) {
+        return new StringBuilder(fileName).reverse().toString();
+    }
+
+    private void markIssuesInModifiedLines(final List<Issue> issues, final List<Integer> modifiedLines) {
+        var lines = modifiedLines.stream().mapToInt(Integer::intValue).sorted().distinct().toArray();
+        if (lines[0] == 0) {
+            issues.forEach(Issue::markAsPartOfModifiedCode); // the whole file has been modified
+            return;
+        }
+
+        List<IssueRange> ranges = new ArrayList<>();
+        for (Issue issue : issues) {
+            if (issue.getLineStart() == 0) {
+                issue.markAsPartOfModifiedCode(); // the issue affects the whole file
+            }
+            else {
+                ranges.add(new IssueRange(issue.getLineStart(), issue.getLineEnd(), issue));
+                for (LineRange lineRange : issue.getLineRanges()) {
+                    ranges.add(new IssueRange(lineRange.getStart(), lineRange.getEnd(), issue));
+                }
+            }
+        }
+        ranges.sort(Comparator.comparingInt(IssueRange::getStart));
+
+        int position = 0;
+        for (int line : lines) {
+            // since the lines are sorted, a range that ends before the current line can't contain any later line
+            while (position < ranges.size() && ranges.get(position).getStart() <= line) {
+                var range = ranges.get(position);
+                if (line <= range.getEnd()) {
+                    range.getIssue().markAsPartOfModifiedCode();
+                }
+                position++;
+            }
         }
     }
 
-    private boolean affectsChangedLineInFile(final Issue issue, final String fileName, final Set<Integer> lines) {
-        var normalizedPath = PATH_UTIL.getRelativePath(fileName);
+    /**
+     * A range of lines that is affected by an issue.
+     */
+    private static final class IssueRange {
+        private final int start;
+        private final int end;
+        private final Issue issue;
+
+        IssueRange(final int start, final int end, final Issue issue) {
+            this.start = start;
+            this.end = end;
+            this.issue = issue;
+        }
+
+        int getStart() {
+            return start;
+        }
 
-        return issue.getFileName().endsWith(normalizedPath) && lines.stream().anyMatch(issue::affectsLine);
+        int getEnd() {
+            return end;
+        }
+
+        Issue getIssue() {
+            return issue;
+        }
     }
 }
@@ -0,0 +1,103 @@
+package edu.hm.hafner.analysis;
+
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import edu.hm.hafner.util.LookaheadStream;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * A {@link LookaheadStream} that reads the lines using a {@link FileLineReader}. Besides the {@link String} based
+ * methods of {@link LookaheadStream}, this stream provides the method {@link #nextSequence()} that returns the next
+ * line as a reusable {@link CharSequence} view. So lines that are not interesting for a parser can be skipped without
+ * creating a {@link String} instance.
+ *
+ * @author Ullrich Hafner
+ */
+final class LineReaderLookaheadStream extends LookaheadStream {
+    private final FileLineReader reader;
+
+    @CheckForNull
+    private CharSequence lookaheadLine;
+    private int line;
+
+    /**
+     * Creates a new instance of {@link LineReaderLookaheadStream}.
+     *
+     * @param reader
+     *         the reader that provides the lines
+     * @param fileName
+     *         the file name of the lines
+     */
+    LineReaderLookaheadStream(final FileLineReader reader, final String fileName) {
+        super(Stream.empty(), fileName);
+
+        this.reader = reader;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (lookaheadLine == null) {
+            lookaheadLine = reader.readLine();
+        }
+        return lookaheadLine != null;
+    }
+
+    @Override
+    public boolean hasNext(final String regexp) {
+        return hasNext() && Pattern.compile(regexp).matcher(peekNext()).find();
+    }
+
+    @Override
+    public String peekNext() {
+        var next = fillLookahead().toString();
+        lookaheadLine = next;
+        return next;
+    }
+
+    @Override
+    public String next() {
+        return nextSequence().toString();
+    }
+
+    /**
+     * Returns the next line as {@link CharSequence}. The returned view is valid until the next call of any other
+     * method of this stream: call {@link CharSequence#toString()} to retain the line.
+     *
+     * @return the next line
+     * @throws NoSuchElementException
+     *         if there are no more lines
+     */
+    CharSequence nextSequence() {
+        line++;
+        var next = fillLookahead();
+        lookaheadLine = null;
+        return next;
+    }
+
+    private CharSequence fillLookahead() {
+        if (hasNext() && lookaheadLine != null) {
+            return lookaheadLine;
+        }
+        throw new NoSuchElementException("No more lines available in " + getFileName());
+    }
+
+    @Override
+    public int getLine() {
+        return line;
+    }
+
+    @Override
+    public void close() {
+        try (reader) {
+            super.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ENGLISH, "[%d] -> '%s'", line, lookaheadLine);
+    }
+}
@@ -0,0 +1,364 @@
+package edu.hm.hafner.analysis;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * Rejects lines that cannot be matched by a regular expression using simple string comparisons. The prefilter contains
+ * a set of literals: a line can only be matched by the regular expression if it contains at least one of these
+ * literals. The literals are either derived from the regular expression or declared explicitly by a parser. If no
+ * required literals can be derived, then all lines are accepted.
+ *
+ * <p>
+ * The derivation is conservative: all constructs that are not understood (inline flags, quoting, special escape
+ * sequences) disable the prefilter.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+final class LiteralPrefilter implements Serializable {
+    @Serial
+    private static final long serialVersionUID = -2295893389766651011L;
+
+    private static final int MAXIMUM_LITERALS = 8;
+    private static final String INLINE_FLAG = "\\(\\?[-a-zA-Z]";
+    private static final Pattern UNSUPPORTED = Pattern.compile(INLINE_FLAG + "|\\\\[QExuc0Nk]");
+
+    /**
+     * Creates a prefilter that accepts only lines that contain at least one of the specified literals.
+     *
+     * @param literals
+     *         the literals, at least one of these literals must be part of a line that matches
+     *
+     * @return the prefilter
+     */
+    static LiteralPrefilter of(final String... literals) {
+        return new LiteralPrefilter(List.of(literals));
+    }
+
+    /**
+     * Creates a prefilter for the specified regular expression. The prefilter accepts only lines that contain at least
+     * one of the literals that are required by every match of the regular expression.
+     *
+     * @param regex
+     *         the regular expression
+     *
+     * @return the prefilter
+     */
+    static LiteralPrefilter fromPattern(final String regex) {
+        if (UNSUPPORTED.matcher(regex).find()) {
+            return new LiteralPrefilter(List.of());
+        }
+        try {
+            var literals = new RequiredLiteralsExtractor(regex).extract();
+            if (literals == null) {
+                return new LiteralPrefilter(List.of());
+            }
+            return new LiteralPrefilter(List.copyOf(literals));
+        }
+        catch (IndexOutOfBoundsException exception) {
+            return new LiteralPrefilter(List.of()); // the expression is not well-formed, so skip the prefilter
+        }
+    }
+
+    private final List<String> literals;
+
+    private LiteralPrefilter(final List<String> literals) {
+        this.literals = literals;
+    }
+
+    /**
+     * Returns the literals of this prefilter. If the list is empty, then every line is accepted.
+     *
+     * @return the literals
+     */
+    List<String> getLiterals() {
+        return literals;
+    }
+
+    /**
+     * Returns whether the specified line might be matched by the regular expression.
+     *
+     * @param line
+     *         the line to check
+     *
+     * @return {@code true} if the line contains at least one of the literals, {@code false} if the line cannot be
+     *         matched by the regular expression
+     */
+    boolean mayMatch(final CharSequence line) {
+        if (literals.isEmpty()) {
+            return true;
+        }
+        for (String literal : literals) {
+            if (contains(line, literal)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean contains(final CharSequence line, final String literal) {
+        if (line instanceof String string) {
+            return string.contains(literal);
+        }
+        int last = line.length() - literal.length();
+        for (int start = 0; start <= last; start++) {
+            if (regionMatches(line, start, literal)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean regionMatches(final CharSequence line, final int start, final String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            if (line.charAt(start + i) != literal.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Recursive descent parser for regular expressions that computes the literals that are required for a match.
+     * Each alternation yields a set of literals (one of them must be part of the input) or {@code null} if there is no
+     * such set.
+     */
+    private static final class RequiredLiteralsExtractor {
+        private static final Comparator<Set<String>> BY_SELECTIVITY = Comparator
+                .<Set<String>>comparingInt(set -> set.stream().mapToInt(String::length).min().orElse(0))
+                .thenComparing(Set::size, Comparator.reverseOrder());
+
+        private final String regex;
+        private int position;
+
+        RequiredLiteralsExtractor(final String regex) {
+            this.regex = regex;
+        }
+
+        @CheckForNull
+        Set<String> extract() {
+            var literals = parseAlternation();
+            if (position < regex.length()) {
+                return null; // unbalanced parenthesis
+            }
+            return literals;
+        }
+
+        @CheckForNull
+        private Set<String> parseAlternation() {
+            Set<String> literals = new LinkedHashSet<>();
+            boolean isConstrained = true;
+            while (true) {
+                var branch = parseSequence();
+                if (branch == null) {
+                    isConstrained = false;
+                }
+                else {
+                    literals.addAll(branch);
+                }
+                if (position < regex.length() && regex.charAt(position) == '|') {
+                    position++;
+                }
+                else {
+                    break;
+                }
+            }
+            if (!isConstrained || literals.size() > MAXIMUM_LITERALS) {
+                return null;
+            }
+            return literals;
+        }
+
+        @CheckForNull
+        private Set<String> parseSequence() {
+            List<Set<String>> candidates = new ArrayList<>();
+            var run = new StringBuilder();
+            while (position < regex.length()) {
+                char c = regex.charAt(position);
+                if (c == '|' || c == ')') {
+                    break;
+                }
+                if (c == '(') {
+                    var group = parseGroup();
+                    if (isOptional()) {
+                        group = null;
+                    }
+                    skipQuantifier();
+                    addRun(candidates, run);
+                    if (group != null) {
+                        candidates.add(group);
+                    }
+                }
+                else {
+                    var literal = parseAtom();
+                    if (literal == null) {
+                        skipQuantifier();
+                        addRun(candidates, run);
+                    }
+                    else if (isOptional()) {
+                        skipQuantifier();
+                        addRun(candidates, run);
+                    }
+                    else if (isQuantifier()) {
+                        run.append(literal);
+                        skipQuantifier();
+                        addRun(candidates, run);
+                    }
+                    else {
+                        run.append(literal);
+                    }
+                }
+            }
+            addRun(candidates, run);
+
+            return candidates.stream().max(BY_SELECTIVITY).orElse(null);
+        }
+
+        private void addRun(final List<Set<String>> candidates, final StringBuilder run) {
+            if (run.length() > 0) {
+                candidates.add(Set.of(run.toString()));
+                run.setLength(0);
+            }
+        }
+
+        @CheckForNull
+        private Set<String> parseGroup() {
+            position++; // (
+            boolean isLookaround = false;
+            if (regex.startsWith("?:", position) || regex.startsWith("?>", position)) {
+                position += 2;
+            }
+            else if (regex.startsWith("?=", position) || regex.startsWith("?!", position)) {
+                position += 2;
+                isLookaround = true;
+            }
+            else if (regex.startsWith("?<=", position) || regex.startsWith("?<!", position)) {
+                position += 3;
+                isLookaround = true;
+            }
+            else if (regex.startsWith("?<", position)) {
+                skipTo('>');
+            }
+            var literals = parseAlternation();
+            if (regex.charAt(position) != ')') {
+                throw new IndexOutOfBoundsException("Unbalanced group in " + regex);
+            }
+            position++; // )
+            return isLookaround ? null : literals;
+        }
+
+        /**
+         * Parses a single character or character class.
+         *
+         * @return the literal character (or code point), or {@code null} if the atom is not a literal
+         */
+        @CheckForNull
+        private String parseAtom() {
+            char c = regex.charAt(position);
+            if (c == '\\') {
+                char escaped = regex.charAt(position + 1);
+                position += 2;
+                if (Character.isLetterOrDigit(escaped)) {
+                    if ((escaped == 'p' || escaped == 'P') && regex.charAt(position) == '{') {
+                        skipTo('}');
+                    }
+                    else if (escaped == 'p' || escaped == 'P') {
+                        position++;
+                    }
+                    return null;
+                }
+                return String.valueOf(escaped);
+            }
+            if (c == '[') {
+                skipCharacterClass();
+                return null;
+            }
+            if (c == '.' || c == '^' || c == '$') {
+                position++;
+                return null;
+            }
+            if (c == '*' || c == '+' || c == '?' || c == '{') {
+                skipQuantifier(); // quantifier of an element that has been handled already
+                return null;
+            }
+            int codePoint = regex.codePointAt(position);
+            position += Character.charCount(codePoint);
+            return new String(Character.toChars(codePoint));
+        }
+
+        private void skipTo(final char end) {
+            int index = regex.indexOf(end, position);
+            if (index < 0) {
+                throw new IndexOutOfBoundsException("Missing '" + end + "' in " + regex);
+            }
+            position = index + 1;
+        }
+
+        private void skipCharacterClass() {
+            int depth = 0;
+            do {
+                char c = regex.charAt(position);
+                if (c == '\\') {
+                    position += 2;
+                    continue;
+                }
+                if (c == '[') {
+                    depth++;
+                    position++;
+                    if (regex.charAt(position) == '^') {
+                        position++;
+                    }
+                    if (regex.charAt(position) == ']') {
+                        position++; // literal ']' at the start of a class
+                    }
+                    continue;
+                }
+                if (c == ']') {
+                    depth--;
+                }
+                position++;
+            }
+            while (depth > 0);
+        }
+
+        private boolean isQuantifier() {
+            if (position >= regex.length()) {
+                return false;
+            }
+            char c = regex.charAt(position);
+            return c == '*' || c == '+' || c == '?' || c == '{';
+        }
+
+        private boolean isOptional() {
+            if (position >= regex.length()) {
+                return false;
+            }
+            char c = regex.charAt(position);
+            return c == '*' || c == '?' || regex.startsWith("{0", position);
+        }
+
+        private void skipQuantifier() {
+            if (!isQuantifier()) {
+                return;
+            }
+            if (regex.charAt(position) == '{') {
+                skipTo('}');
+            }
+            else {
+                position++;
+            }
+            if (position < regex.length() && (regex.charAt(position) == '?' || regex.charAt(position) == '+')) {
+                position++; // lazy or possessive quantifier
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package edu.hm.hafner.analysis;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.google.errorprone.annotations.MustBeClosed;
+
+import edu.hm.hafner.analysis.ModuleDetectorRunner.FileSystemFacade;
+
+/**
+ * A {@link FileSystemFacade} for the local file system. The workspace is walked only once for all patterns. Directories
+ * that typically contain a lot of files but no project files (like the folders of version control systems or of
+ * package managers) are skipped. Additional directories (like the output folders of a build) can be skipped by
+ * providing a custom set of excluded directories.
+ *
+ * @author Ullrich Hafner
+ */
+public class LocalFileSystemFacade implements FileSystemFacade {
+    /** The names of the directories that are skipped by default. */
+    public static final Set<String> DEFAULT_EXCLUDED_DIRECTORIES = Set.of(".git", "node_modules");
+
+    private static final String ALL_DIRECTORIES = "**/";
+
+    private final Set<String> excludedDirectories;
+
+    /**
+     * Creates a new instance of {@link LocalFileSystemFacade} that skips the {@link #DEFAULT_EXCLUDED_DIRECTORIES}.
+     */
+    public LocalFileSystemFacade() {
+        this(DEFAULT_EXCLUDED_DIRECTORIES);
+    }
+
+    /**
+     * Creates a new instance of {@link LocalFileSystemFacade}.
+     *
+     * @param excludedDirectories
+     *         the names of the directories that should be skipped
+     */
+    public LocalFileSystemFacade(final Set<String> excludedDirectories) {
+        this.excludedDirectories = Set.copyOf(excludedDirectories);
+    }
+
+    /**
+     * Returns all file names that match one of the specified patterns. The patterns are separated by commas. Each
+     * pattern is an Ant pattern, where a leading {@code **}{@code /} also matches files in the root directory.
+     *
+     * @param root
+     *         root directory to start the search from
+     * @param pattern
+     *         the Ant patterns to search for
+     *
+     * @return the found file names, relative to the root directory
+     */
+    @Override
+    public List<String> find(final Path root, final String pattern) {
+        List<PathMatcher> matchers = new ArrayList<>();
+        var fileSystem = FileSystems.getDefault();
+        for (String filePattern : StringUtils.split(pattern, ',')) {
+            var trimmed = filePattern.trim();
+            matchers.add(fileSystem.getPathMatcher("glob:" + trimmed));
+            if (trimmed.startsWith(ALL_DIRECTORIES)) {
+                matchers.add(fileSystem.getPathMatcher("glob:" + trimmed.substring(ALL_DIRECTORIES.length())));
+            }
+        }
+
+        List<String> fileNames = new ArrayList<>();
+        try {
+            Files.walkFileTree(root, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) {
+                    var name = dir.getFileName();
+                    if (!dir.equals(root) && name != null && excludedDirectories.contains(name.toString())) {
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                    var relative = root.relativize(file);
+                    if (matchers.stream().anyMatch(matcher -> matcher.matches(relative))) {
+                        fileNames.add(relative.toString().replace('\\', '/'));
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(final Path file, final IOException exception) {
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        }
+        catch (IOException exception) {
+            // return the files that have been found so far
+        }
+        return fileNames;
+    }
+
+    @Override
+    @MustBeClosed
+    public InputStream open(final String fileName) throws IOException, InvalidPathException {
+        return Files.newInputStream(Path.of(fileName));
+    }
+
+    @Override
+    public long getLastModified(final String fileName) {
+        try {
+            return Files.getLastModifiedTime(Path.of(fileName)).toMillis();
+        }
+        catch (IOException | InvalidPathException exception) {
+            return 0L;
+        }
+    }
+}
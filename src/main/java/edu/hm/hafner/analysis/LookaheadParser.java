@@ -2,7 +2,9 @@ package edu.hm.hafner.analysis;
 
 import java.io.Serial;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
+import java.util.List;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -11,6 +13,7 @@ import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
 
 import edu.hm.hafner.util.LookaheadStream;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 
 /**
  * Parses a report file line by line for issues using a pre-defined regular expression. If the regular expression
@@ -19,6 +22,18 @@ import edu.hm.hafner.util.LookaheadStream;
  * subclasses may consume additional lines from the report file before control is handed back to the template method of
  * this parser.
  *
+ * <p>
+ * Before a line is handed over to the regular expression, a {@link LiteralPrefilter} rejects all lines that do not
+ * contain the literals that are required by the regular expression. These literals are derived from the pattern
+ * automatically, or may be declared by a parser using the constructor
+ * {@link #LookaheadParser(String, String...)}.
+ * </p>
+ *
+ * <p>
+ * Files are read with a {@link FileLineReader} if possible: then the lines that are rejected by the prefilter are
+ * skipped without creating {@link String} instances.
+ * </p>
+ *
  * @author Ullrich Hafner
  */
 public abstract class LookaheadParser extends IssueParser {
@@ -34,15 +49,24 @@ public abstract class LookaheadParser extends IssueParser {
             = Pattern.compile(".*" + ENTERING_DIRECTORY + " (?<dir>.*)");
     private static final String CMAKE_PREFIX = "-- Build files have";
     private static final Pattern CMAKE_PATH = Pattern.compile(".*" + CMAKE_PREFIX + " been written to: (?<dir>.*)");
+    private static final LiteralPrefilter DIRECTORY_CHANGES
+            = LiteralPrefilter.of(ENTERING_DIRECTORY, LEAVING_DIRECTORY, CMAKE_PREFIX);
     private static final String HYPHEN = "'`";
 
     private static final int MAX_LINE_LENGTH = 4000; // see JENKINS-55805
     private static final String NO_DIRECTORY = "";
 
     private final Pattern pattern;
+    private final LiteralPrefilter prefilter;
 
     private final Deque<String> recursiveDirectories;
 
+    /** The number of directories that have been left but were entered before the parsing of this parser started. */
+    private int leftInheritedDirectories;
+    private DirectorySource directorySource = DirectorySource.INHERITED;
+    @CheckForNull
+    private String changedDirectory;
+
     /**
      * Creates a new instance of {@link LookaheadParser}.
      *
@@ -53,37 +77,97 @@ public abstract class LookaheadParser extends IssueParser {
         super();
 
         this.pattern = Pattern.compile(pattern);
+        this.prefilter = LiteralPrefilter.fromPattern(pattern);
+        this.recursiveDirectories = new ArrayDeque<>();
+    }
+
+    /**
+     * Creates a new instance of {@link LookaheadParser} that uses the specified literals to skip lines that cannot
+     * match. A line will be matched with the regular expression only if it contains at least one of these literals.
+     * Use this constructor if the required literals cannot be derived from the pattern automatically.
+     *
+     * @param pattern
+     *         pattern of compiler warnings.
+     * @param requiredLiterals
+     *         the literals that are required for a match, at least one of them must be part of a matching line
+     */
+    protected LookaheadParser(final String pattern, final String... requiredLiterals) {
+        super();
+
+        this.pattern = Pattern.compile(pattern);
+        this.prefilter = LiteralPrefilter.of(requiredLiterals);
         this.recursiveDirectories = new ArrayDeque<>();
     }
 
     @Override
     public Report parseReport(final ReaderFactory readerFactory) throws ParsingException, ParsingCanceledException {
         var report = new Report();
-        try (Stream<String> lines = readerFactory.readStream()) {
-            try (var lookahead = new LookaheadStream(lines, readerFactory.getFileName())) {
+        if (readerFactory instanceof FileReaderFactory fileReaderFactory
+                && FileLineReader.isSupported(fileReaderFactory.determineCharset())) {
+            try (var lookahead = new LineReaderLookaheadStream(
+                    new FileLineReader(fileReaderFactory), readerFactory.getFileName())) {
                 parse(report, lookahead);
             }
         }
+        else {
+            try (Stream<String> lines = readerFactory.readStream()) {
+                try (var lookahead = new LookaheadStream(lines, readerFactory.getFileName())) {
+                    parse(report, lookahead);
+                }
+            }
+        }
 
         return postProcess(report);
     }
 
-    @SuppressWarnings("PMD.DoNotUseThreads")
     private void parse(final Report report, final LookaheadStream lookahead) {
         try (var builder = new IssueBuilder()) {
             while (lookahead.hasNext()) {
-                var line = lookahead.next();
-                handleDirectoryChanges(builder, line, report);
-                preprocessLine(line);
-                if (isLineInteresting(line)) {
-                    var matcher = pattern.matcher(line);
-                    if (matcher.find()) {
-                        createIssue(matcher, lookahead, builder).ifPresent(report::add);
-                    }
-                }
-                if (Thread.interrupted()) {
-                    throw new ParsingCanceledException();
-                }
+                parseNextLine(report, lookahead, builder);
+            }
+        }
+    }
+
+    /**
+     * Parses the next line of the specified lookahead stream. If the line matches, then the created issue will be
+     * added to the report. If the stream is a {@link LineReaderLookaheadStream}, then lines that are rejected by the
+     * prefilter are skipped without creating a {@link String}.
+     *
+     * @param report
+     *         the report to add the issues to
+     * @param lookahead
+     *         the lookahead stream, must have a next line
+     * @param builder
+     *         the issue builder to use
+     */
+    @SuppressWarnings("PMD.DoNotUseThreads")
+    void parseNextLine(final Report report, final LookaheadStream lookahead, final IssueBuilder builder) {
+        if (lookahead instanceof LineReaderLookaheadStream lines && canSkipLines()) {
+            var sequence = lines.nextSequence();
+            if (prefilter.mayMatch(sequence) || DIRECTORY_CHANGES.mayMatch(sequence)) {
+                parseLine(report, lookahead, builder, sequence.toString());
+            }
+        }
+        else {
+            parseLine(report, lookahead, builder, lookahead.next());
+        }
+        if (Thread.interrupted()) {
+            throw new ParsingCanceledException();
+        }
+    }
+
+    private boolean canSkipLines() {
+        return isPrefilterSupported() && !prefilter.getLiterals().isEmpty();
+    }
+
+    private void parseLine(final Report report, final LookaheadStream lookahead, final IssueBuilder builder,
+            final String line) {
+        handleDirectoryChanges(builder, line, report);
+        preprocessLine(line);
+        if (isLineInteresting(line) && prefilter.mayMatch(line)) {
+            var matcher = pattern.matcher(line);
+            if (matcher.find()) {
+                createIssue(matcher, lookahead, builder).ifPresent(report::add);
             }
         }
     }
@@ -99,6 +183,18 @@ public abstract class LookaheadParser extends IssueParser {
         // empty default implementation does nothing
     }
 
+    /**
+     * Returns whether lines that are rejected by the {@link LiteralPrefilter} of this parser may be skipped completely,
+     * i.e., without calling {@link #preprocessLine(String)}. Subclasses that track state across lines in
+     * {@link #preprocessLine(String)} need to see every line and must return {@code false}. This default
+     * implementation returns {@code true}.
+     *
+     * @return {@code true} if rejected lines may be skipped, {@code false} if every line must be preprocessed
+     */
+    protected boolean isPrefilterSupported() {
+        return true;
+    }
+
     /**
      * When changing directories using 'Entering directory' output, save new directory to our stack for later use, then
      * return it for use now.
@@ -112,6 +208,7 @@ public abstract class LookaheadParser extends IssueParser {
      */
     private String enterDirectory(final String line, final Report log) {
         extractDirectory(line, ENTERING_DIRECTORY_PATH, log).ifPresent(recursiveDirectories::push);
+        directorySource = DirectorySource.STACK;
         return recursiveDirectories.isEmpty() ? NO_DIRECTORY : recursiveDirectories.peek();
     }
 
@@ -122,7 +219,11 @@ public abstract class LookaheadParser extends IssueParser {
      * @return The last directory seen, or an empty String if we have returned to the beginning
      */
     private String leaveDirectory() {
-        if (!recursiveDirectories.isEmpty()) {
+        directorySource = DirectorySource.STACK;
+        if (recursiveDirectories.isEmpty()) {
+            leftInheritedDirectories++;
+        }
+        else {
             recursiveDirectories.pop();
             if (!recursiveDirectories.isEmpty()) {
                 return recursiveDirectories.peek();
@@ -150,10 +251,91 @@ public abstract class LookaheadParser extends IssueParser {
             builder.setDirectory(leaveDirectory());
         }
         else if (line.contains(CMAKE_PREFIX)) {
-            extractDirectory(line, CMAKE_PATH, log).ifPresent(builder::setDirectory);
+            extractDirectory(line, CMAKE_PATH, log).ifPresent(directory -> changeDirectory(builder, directory));
         }
     }
 
+    private void changeDirectory(final IssueBuilder builder, final String directory) {
+        builder.setDirectory(directory);
+        directorySource = DirectorySource.CHANGED;
+        changedDirectory = directory;
+    }
+
+    /**
+     * Returns the directory state at the start of parsing: the entered directories are retained from previous
+     * parsing runs of this parser, the current directory is not set yet.
+     *
+     * @return the initial directory state
+     */
+    DirectoryState getInitialDirectoryState() {
+        return new DirectoryState(List.copyOf(recursiveDirectories), null);
+    }
+
+    /**
+     * Starts the parsing of a console log with the specified directory state. This state has been computed by parsing
+     * the preceding lines of the console log.
+     *
+     * @param inherited
+     *         the directory state of the preceding lines
+     * @param builder
+     *         the issue builder that will be used to create the issues
+     */
+    void inheritDirectoryState(final DirectoryState inherited, final IssueBuilder builder) {
+        recursiveDirectories.clear();
+        recursiveDirectories.addAll(inherited.getDirectories());
+        builder.setDirectory(inherited.getCurrent());
+        leftInheritedDirectories = 0;
+        directorySource = DirectorySource.INHERITED;
+        changedDirectory = null;
+    }
+
+    /**
+     * Returns whether the current directory has been inherited from the directory state that has been set when the
+     * parsing started. I.e., the current directory depends on the lines that have been parsed before.
+     *
+     * @return {@code true} if the current directory depends on the inherited directory state, {@code false} if the
+     *         directory has been set by the lines parsed by this parser
+     */
+    boolean isDirectoryInherited() {
+        return directorySource == DirectorySource.INHERITED
+                || (directorySource == DirectorySource.STACK && recursiveDirectories.isEmpty());
+    }
+
+    /**
+     * Returns the directory state after parsing, if the parsing has been started with the specified directory state.
+     * This makes it possible to parse the lines of a console log without knowing the directory state of the
+     * preceding lines, and to combine the states later on.
+     *
+     * @param inherited
+     *         the directory state of the preceding lines
+     *
+     * @return the resulting directory state
+     */
+    DirectoryState getDirectoryState(final DirectoryState inherited) {
+        List<String> directories = new ArrayList<>(recursiveDirectories);
+        var remaining = inherited.getDirectories();
+        directories.addAll(remaining.subList(Math.min(leftInheritedDirectories, remaining.size()), remaining.size()));
+        var current = switch (directorySource) {
+            case INHERITED -> inherited.getCurrent();
+            case STACK -> directories.isEmpty() ? NO_DIRECTORY : directories.get(0);
+            case CHANGED -> changedDirectory;
+        };
+        return new DirectoryState(directories, current);
+    }
+
+    /**
+     * Returns whether this parser can parse a console log in independent chunks. This is the case if an issue depends
+     * only on the line that matches the pattern and the lines that follow: the parser must not track any state across
+     * lines (except for the directory changes that are tracked by this base class) and must not use the line numbers of
+     * the {@link LookaheadStream}. Such parsers can be used with
+     * {@link ChunkedLookaheadParser} to parse huge logs in parallel. This default implementation returns {@code false}.
+     *
+     * @return {@code true} if the parser can parse a log in independent chunks, {@code false} otherwise
+     */
+    protected boolean isSplittable() {
+        return false;
+    }
+
     /**
      * Extracts a directory from a line using a specified pattern which contains a capture group named 'dir'.
      *
@@ -208,6 +390,13 @@ public abstract class LookaheadParser extends IssueParser {
      * expression. Here a parser can implement some fast checks (i.e., string or character comparisons) to see
      * if a required condition is met. This default implementation does return {@code true} for small lines.
      *
+     * <p>
+     * Note that this method is not necessarily called for every line of the input: lines that do not contain any of
+     * the literals of the {@link LiteralPrefilter} of this parser might be skipped without calling this method. So
+     * implementations must not rely on this method to track any state across lines; use
+     * {@link #preprocessLine(String)} and {@link #isPrefilterSupported()} for such purposes.
+     * </p>
+     *
      * @param line
      *         the line to inspect
      *
@@ -230,6 +419,18 @@ public abstract class LookaheadParser extends IssueParser {
         return report;
     }
 
+    /**
+     * Determines how the current directory has been set.
+     */
+    private enum DirectorySource {
+        /** No directory change has been parsed yet. */
+        INHERITED,
+        /** The directory has been entered or left. */
+        STACK,
+        /** The directory has been changed by CMake. */
+        CHANGED
+    }
+
     /**
      * Remove Hyphen from directory if it starts or ends with hyphen.
      *
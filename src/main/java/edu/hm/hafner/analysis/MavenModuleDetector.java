@@ -27,11 +27,7 @@ class MavenModuleDetector extends AbstractModuleDetector {
 
     @Override
     public void collectProjects(final Map<String, String> mapping, final List<String> projects) {
-        for (String fileName : projects) {
-            if (fileName.endsWith(MAVEN_POM)) {
-                addMapping(mapping, fileName, MAVEN_POM, parsePom(fileName));
-            }
-        }
+        addMappings(mapping, projects, fileName -> fileName.endsWith(MAVEN_POM), MAVEN_POM, this::parsePom);
     }
 
     /**
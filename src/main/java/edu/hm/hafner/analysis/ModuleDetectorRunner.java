@@ -6,16 +6,19 @@ import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 
 import com.google.errorprone.annotations.MustBeClosed;
 
 import edu.hm.hafner.util.PathUtil;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 
 /**
  * Detects module names by parsing the name of a source file, the Maven pom.xml file or the ANT build.xml file.
@@ -31,10 +34,8 @@ public class ModuleDetectorRunner {
     private final List<AbstractModuleDetector> moduleDetectors;
     /** The factory to create input streams with. */
     private final FileSystemFacade fileSystemFacade;
-    /** Maps file names to module names. */
-    private final Map<String, String> fileNameToModuleName;
-    /** Sorted list of file name prefixes. */
-    private final List<String> prefixes;
+    /** Maps file name prefixes to module names, sorted by the prefixes. */
+    private final NavigableMap<String, String> modulesByPrefix;
 
     /**
      * Creates a new instance of {@link ModuleDetectorRunner}.
@@ -45,6 +46,25 @@ public class ModuleDetectorRunner {
      *         file system facade to find and load the files with
      */
     public ModuleDetectorRunner(final Path workspace, final FileSystemFacade fileSystemFacade) {
+        this(workspace, fileSystemFacade, null);
+    }
+
+    /**
+     * Creates a new instance of {@link ModuleDetectorRunner} that stores the detected modules in the specified cache
+     * file. The cache contains the modification times of all found project files (pom.xml, build.xml, etc.) and of
+     * the additional files that are read to determine the module names (e.g., the localization files of OSGi
+     * bundles). If none of these files has been added, removed, or modified since the cache has been written, then
+     * the project files are not parsed again. The workspace still needs to be scanned for project files to detect such changes.
+     *
+     * @param workspace
+     *         the workspace to scan for module files
+     * @param fileSystemFacade
+     *         file system facade to find and load the files with
+     * @param mappingCache
+     *         the file that caches the mapping of path prefixes to module names, {@code null} to disable the cache
+     */
+    public ModuleDetectorRunner(final Path workspace, final FileSystemFacade fileSystemFacade,
+            @CheckForNull final Path mappingCache) {
         this.fileSystemFacade = fileSystemFacade;
 
         moduleDetectors = Arrays.asList(
@@ -54,9 +74,7 @@ public class ModuleDetectorRunner {
                 new OsgiModuleDetector(this.fileSystemFacade)
         );
 
-        fileNameToModuleName = createFilesToModuleMapping(workspace);
-        prefixes = new ArrayList<>(fileNameToModuleName.keySet());
-        Collections.sort(prefixes);
+        modulesByPrefix = new TreeMap<>(createFilesToModuleMapping(workspace, mappingCache));
     }
 
     /**
@@ -64,14 +82,46 @@ public class ModuleDetectorRunner {
      *
      * @param workspace
      *         the workspace to start scanning for files
+     * @param mappingCache
+     *         the file that caches the mapping of path prefixes to module names, might be {@code null}
      *
      * @return the mapping of path prefixes to module names
      */
-    private Map<String, String> createFilesToModuleMapping(final Path workspace) {
-        Map<String, String> mapping = new HashMap<>();
-
+    private Map<String, String> createFilesToModuleMapping(final Path workspace,
+            @CheckForNull final Path mappingCache) {
         List<String> projects = find(workspace);
 
+        if (mappingCache == null) {
+            return collectProjects(projects);
+        }
+
+        Map<String, Long> modificationTimes = new TreeMap<>();
+        for (String project : projects) {
+            modificationTimes.put(project, fileSystemFacade.getLastModified(project));
+        }
+        if (modificationTimes.containsValue(0L)) {
+            return collectProjects(projects); // the modification times are not available
+        }
+        for (AbstractModuleDetector moduleDetector : moduleDetectors) {
+            for (String project : projects) {
+                for (String additionalFile : moduleDetector.getAdditionalFiles(project)) {
+                    // 0 if the file does not exist, so that adding the file invalidates the cache as well
+                    modificationTimes.put(additionalFile, fileSystemFacade.getLastModified(additionalFile));
+                }
+            }
+        }
+
+        var cache = new ModuleMappingCache(mappingCache);
+        return cache.read(modificationTimes).orElseGet(() -> {
+            var mapping = collectProjects(projects);
+            cache.write(modificationTimes, mapping);
+            return mapping;
+        });
+    }
+
+    private Map<String, String> collectProjects(final List<String> projects) {
+        Map<String, String> mapping = new HashMap<>();
+
         for (AbstractModuleDetector moduleDetector : moduleDetectors) {
             moduleDetector.collectProjects(mapping, projects);
         }
@@ -80,7 +130,8 @@ public class ModuleDetectorRunner {
     }
 
     /**
-     * Uses the path prefixes of pom.xml or build.xml files to guess a module name for the specified file.
+     * Uses the path prefixes of pom.xml or build.xml files to guess a module name for the specified file. If several
+     * prefixes match, then the module of the longest prefix (i.e., the innermost module) is returned.
      *
      * @param originalFileName
      *         file name to guess a module for, must be an absolute path
@@ -90,17 +141,23 @@ public class ModuleDetectorRunner {
     public String guessModuleName(final String originalFileName) {
         var fullPath = originalFileName.replace('\\', '/');
 
-        var guessedModule = StringUtils.EMPTY;
-        for (String path : prefixes) {
-            if (fullPath.startsWith(path) && fileNameToModuleName.containsKey(path)) {
-                guessedModule = fileNameToModuleName.get(path);
+        var path = fullPath;
+        var candidate = modulesByPrefix.floorEntry(path);
+        while (candidate != null) {
+            var prefix = candidate.getKey();
+            if (fullPath.startsWith(prefix)) {
+                return candidate.getValue();
             }
+            // the longest matching prefix must be a prefix of the common part of the path and the candidate
+            path = path.substring(0, StringUtils.indexOfDifference(path, prefix));
+            candidate = modulesByPrefix.floorEntry(path);
         }
-        return guessedModule;
+        return StringUtils.EMPTY;
     }
 
     /**
-     * Finds files of the matching pattern.
+     * Finds the files that match the patterns of all module detectors. The workspace is scanned only once using the
+     * combined patterns of all module detectors.
      *
      * @param path
      *         root path to scan in
@@ -108,18 +165,19 @@ public class ModuleDetectorRunner {
      * @return the found files (as absolute paths)
      */
     private List<String> find(final Path path) {
-        List<String> absoluteFileNames = new ArrayList<>();
+        var patterns = moduleDetectors.stream()
+                .map(AbstractModuleDetector::getPattern)
+                .collect(Collectors.joining(AbstractModuleDetector.PLUS));
 
-        for (AbstractModuleDetector moduleDetector : moduleDetectors) {
-            var relativeFileNames = fileSystemFacade.find(path, moduleDetector.getPattern());
-            for (String relativeFileName : relativeFileNames) {
-                var relativePath = normalizePath(relativeFileName);
-                if (relativePath.startsWith(SLASH)) {
-                    absoluteFileNames.add(relativePath);
-                }
-                else {
-                    absoluteFileNames.add(new PathUtil().getAbsolutePath(path) + SLASH + relativePath);
-                }
+        List<String> absoluteFileNames = new ArrayList<>();
+        var absolutePath = new PathUtil().getAbsolutePath(path);
+        for (String relativeFileName : fileSystemFacade.find(path, patterns)) {
+            var relativePath = normalizePath(relativeFileName);
+            if (relativePath.startsWith(SLASH)) {
+                absoluteFileNames.add(relativePath);
+            }
+            else {
+                absoluteFileNames.add(absolutePath + SLASH + relativePath);
             }
         }
 
@@ -160,5 +218,19 @@ public class ModuleDetectorRunner {
          */
         @MustBeClosed
         InputStream open(String fileName) throws IOException, InvalidPathException;
+
+        /**
+         * Returns the time of the last modification of the specified file. The modification times are used to detect
+         * whether the project files have been changed since the modules have been cached.
+         *
+         * @param fileName
+         *         the file name
+         *
+         * @return the time of the last modification in milliseconds since the epoch, or 0 if the time is not
+         *         available
+         */
+        default long getLastModified(final String fileName) {
+            return 0L;
+        }
     }
 }
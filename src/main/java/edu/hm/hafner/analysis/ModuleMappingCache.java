@@ -0,0 +1,93 @@
+package edu.hm.hafner.analysis;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Stores the mapping of path prefixes to module names in a properties file. Additionally, the modification times of
+ * the project files that have been parsed to create the mapping are stored. A stored mapping is only used if the same
+ * project files with the same modification times are found again. The cache is optional: if the file can't be read or
+ * written, then the modules are detected as if there would be no cache.
+ *
+ * @author Ullrich Hafner
+ */
+class ModuleMappingCache {
+    private static final String PROJECT = "project.";
+    private static final String MODULE = "module.";
+
+    private final Path file;
+
+    ModuleMappingCache(final Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Reads the cached mapping of path prefixes to module names.
+     *
+     * @param modificationTimes
+     *         the modification times of the current project files
+     *
+     * @return the cached mapping, or an empty optional if there is no mapping for the specified project files
+     */
+    Optional<Map<String, String>> read(final Map<String, Long> modificationTimes) {
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+
+        var properties = new Properties();
+        try (var input = Files.newInputStream(file)) {
+            properties.load(input);
+
+            Map<String, Long> cachedModificationTimes = new TreeMap<>();
+            Map<String, String> mapping = new HashMap<>();
+            for (String key : properties.stringPropertyNames()) {
+                var value = properties.getProperty(key);
+                if (key.startsWith(PROJECT)) {
+                    cachedModificationTimes.put(key.substring(PROJECT.length()), Long.parseLong(value));
+                }
+                else if (key.startsWith(MODULE)) {
+                    mapping.put(key.substring(MODULE.length()), value);
+                }
+            }
+            if (cachedModificationTimes.equals(modificationTimes)) {
+                return Optional.of(mapping);
+            }
+        }
+        catch (IOException | IllegalArgumentException exception) {
+            // ignore the broken cache, it will be replaced
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Writes the mapping of path prefixes to module names.
+     *
+     * @param modificationTimes
+     *         the modification times of the project files that have been parsed to create the mapping
+     * @param mapping
+     *         the mapping of path prefixes to module names
+     */
+    void write(final Map<String, Long> modificationTimes, final Map<String, String> mapping) {
+        var properties = new Properties();
+        for (Entry<String, Long> project : modificationTimes.entrySet()) {
+            properties.setProperty(PROJECT + project.getKey(), String.valueOf(project.getValue()));
+        }
+        for (Entry<String, String> module : mapping.entrySet()) {
+            properties.setProperty(MODULE + module.getKey(), module.getValue());
+        }
+
+        try (var output = Files.newOutputStream(file)) {
+            properties.store(output, "Modules of the workspace");
+        }
+        catch (IOException exception) {
+            // ignore, the modules will be detected again next time
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package edu.hm.hafner.analysis;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Resolves module names by reading and mapping module definitions (build.xml, pom.xml, or Manifest.mf files).
@@ -20,7 +22,8 @@ public class ModuleResolver {
     }
 
     /**
-     * Resolves the absolute paths of all affected files referenced by the specified report.
+     * Resolves the module names of all issues in the specified report that have no module name yet. The module name
+     * of each distinct file is guessed only once.
      *
      * @param report
      *         the issues to resolve the paths for
@@ -36,7 +39,10 @@ public class ModuleResolver {
             return;
         }
 
-        issuesWithoutModule.forEach(issue -> issue.setModuleName(runner.guessModuleName(issue.getAbsolutePath())));
+        Map<String, String> modulesByPath = new HashMap<>();
+        issuesWithoutModule.forEach(issue -> issue.setModuleName(
+                modulesByPath.computeIfAbsent(issue.getAbsolutePath(), runner::guessModuleName)));
+        report.markAsModified();
         report.logInfo("-> resolved module names for %d issues", issuesWithoutModule.size());
     }
 }
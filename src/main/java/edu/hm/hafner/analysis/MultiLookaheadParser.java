@@ -0,0 +1,200 @@
+package edu.hm.hafner.analysis;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import edu.hm.hafner.util.LookaheadStream;
+
+/**
+ * Parses a console log with several {@link LookaheadParser parsers} in a single pass. The log is read (and decoded)
+ * only once, each line is then handed over to all parsers. Each parser has its own {@link LookaheadStream}, so
+ * parsers can consume additional lines independently of each other: the lines are buffered until all parsers have
+ * processed them.
+ *
+ * <p>
+ * The result of this parser is the same as if every parser had parsed the log on its own using
+ * {@link IssueParser#parse(ReaderFactory)}.
+ * </p>
+ *
+ * <p>
+ * Parsing is canceled if the thread is interrupted. This is detected by {@link LookaheadParser} after each line that
+ * a parser processes; there is no additional check between the rounds in which every parser processes its next line.
+ * </p>
+ *
+ * <p>
+ * Note that the buffered lines are not bounded: if a parser lags behind the others (e.g., since it consumes a lot of
+ * lines using its lookahead stream while the other parsers still process single lines), then all lines between the
+ * slowest and the fastest parser are kept in memory.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+public final class MultiLookaheadParser {
+    private final List<LookaheadParser> parsers;
+
+    /**
+     * Creates a new instance of {@link MultiLookaheadParser}.
+     *
+     * @param parsers
+     *         the parsers to use, the IDs of the parsers must be unique
+     *
+     * @throws IllegalArgumentException
+     *         if the IDs of the parsers are not unique
+     */
+    public MultiLookaheadParser(final List<? extends LookaheadParser> parsers) {
+        var ids = new ArrayList<String>();
+        for (LookaheadParser parser : parsers) {
+            if (ids.contains(parser.getId())) {
+                throw new IllegalArgumentException("The IDs of the parsers must be unique: " + parser.getId());
+            }
+            ids.add(parser.getId());
+        }
+        this.parsers = List.copyOf(parsers);
+    }
+
+    /**
+     * Parses the report (given by the reader factory) with all parsers.
+     *
+     * @param readerFactory
+     *         factory to read input reports with a specific locale
+     *
+     * @return the reports containing the found issues, mapped by the ID of the parser that created the report
+     * @throws ParsingException
+     *         signals that during parsing a non-recoverable error has been occurred
+     * @throws ParsingCanceledException
+     *         signals that the user has aborted the parsing
+     */
+    public Map<String, Report> parse(final ReaderFactory readerFactory)
+            throws ParsingException, ParsingCanceledException {
+        var fileName = readerFactory.getFileName();
+        List<ParserState> states = new ArrayList<>();
+        try (Stream<String> lines = readerFactory.readStream()) {
+            var buffer = new LineBuffer(lines.iterator());
+            for (LookaheadParser parser : parsers) {
+                states.add(new ParserState(parser, buffer.createCursor(), fileName));
+            }
+
+            boolean hasNext = true;
+            while (hasNext) {
+                hasNext = false;
+                for (ParserState state : states) {
+                    hasNext |= state.parseNextLine();
+                }
+                buffer.discardProcessedLines();
+            }
+        }
+        finally {
+            states.forEach(ParserState::close);
+        }
+
+        Map<String, Report> reports = new LinkedHashMap<>();
+        for (ParserState state : states) {
+            var parser = state.parser;
+            var report = parser.postProcess(state.report);
+            report.setOrigin(parser.getId(), parser.getName(), parser.getType(), fileName);
+            reports.put(parser.getId(), report);
+        }
+        return reports;
+    }
+
+    /**
+     * The parsing state of a single parser.
+     */
+    private static final class ParserState implements AutoCloseable {
+        private final LookaheadParser parser;
+        private final LookaheadStream lookahead;
+        private final IssueBuilder builder = new IssueBuilder();
+        private final Report report = new Report();
+
+        ParserState(final LookaheadParser parser, final Iterator<String> lines, final String fileName) {
+            this.parser = parser;
+            this.lookahead = new LookaheadStream(StreamSupport.stream(
+                    Spliterators.spliteratorUnknownSize(lines, Spliterator.ORDERED), false), fileName);
+        }
+
+        boolean parseNextLine() {
+            if (lookahead.hasNext()) {
+                parser.parseNextLine(report, lookahead, builder);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void close() {
+            lookahead.close();
+            builder.close();
+        }
+    }
+
+    /**
+     * Buffers the lines of the log until all cursors have read them. The number of buffered lines is not bounded, it
+     * grows with the distance between the slowest and the fastest cursor.
+     */
+    private static final class LineBuffer {
+        private final Iterator<String> source;
+        private final List<String> lines = new ArrayList<>();
+        private final List<Cursor> cursors = new ArrayList<>();
+        private long offset; // the number of lines that have been discarded
+
+        LineBuffer(final Iterator<String> source) {
+            this.source = source;
+        }
+
+        Iterator<String> createCursor() {
+            var cursor = new Cursor();
+            cursors.add(cursor);
+            return cursor;
+        }
+
+        void discardProcessedLines() {
+            var processed = cursors.stream().mapToLong(cursor -> cursor.position).min().orElse(offset);
+            var count = (int) (processed - offset);
+            if (count > 0) {
+                lines.subList(0, count).clear();
+                offset = processed;
+            }
+        }
+
+        private boolean isAvailable(final long position) {
+            return position < offset + lines.size() || source.hasNext();
+        }
+
+        private String get(final long position) {
+            if (position == offset + lines.size()) {
+                lines.add(source.next());
+            }
+            return lines.get((int) (position - offset));
+        }
+
+        /**
+         * Iterates over the lines of the buffer. Each cursor has its own position.
+         */
+        private final class Cursor implements Iterator<String> {
+            private long position;
+
+            @Override
+            public boolean hasNext() {
+                return isAvailable(position);
+            }
+
+            @Override
+            public String next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("No more lines available");
+                }
+                var line = get(position);
+                position++;
+                return line;
+            }
+        }
+    }
+}
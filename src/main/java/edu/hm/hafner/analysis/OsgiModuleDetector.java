@@ -35,11 +35,16 @@ class OsgiModuleDetector extends AbstractModuleDetector {
 
     @Override
     public void collectProjects(final Map<String, String> mapping, final List<String> projects) {
-        for (String fileName : projects) {
-            if (fileName.endsWith(OSGI_BUNDLE)) {
-                addMapping(mapping, fileName, OSGI_BUNDLE, parseManifest(fileName));
-            }
+        addMappings(mapping, projects, fileName -> fileName.endsWith(OSGI_BUNDLE), OSGI_BUNDLE, this::parseManifest);
+    }
+
+    @Override
+    List<String> getAdditionalFiles(final String projectFile) {
+        if (projectFile.endsWith(OSGI_BUNDLE)) {
+            var path = StringUtils.substringBefore(projectFile, OSGI_BUNDLE);
+            return List.of(path + SLASH + PLUGIN_PROPERTIES, path + SLASH + BUNDLE_PROPERTIES);
         }
+        return List.of();
     }
 
     /**
@@ -0,0 +1,214 @@
+package edu.hm.hafner.analysis;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Caches the package names of source files on disk. A cached package name is used as long as the size and the time of
+ * the last modification of the source file and the character set that has been used to read the file are unchanged,
+ * so a source file needs to be read only if it has been modified. The cache holds at most the specified number of files: if the cache is full, then the least recently used
+ * file is removed. The cache is optional: if the cache file can't be read or written, then the package names are
+ * detected as if there would be no cache.
+ *
+ * @author Ullrich Hafner
+ */
+public final class PackageNameCache {
+    /** The default number of files in the cache. */
+    public static final int DEFAULT_MAXIMUM_SIZE = 100_000;
+
+    private static final int MAGIC = 0xCAC4_E002;
+
+    private final Path file;
+    private final Map<String, CachedPackage> packagesByFileName;
+    private int hits;
+    private int misses;
+    private boolean isModified;
+
+    /**
+     * Creates a new instance of {@link PackageNameCache} that holds at most {@link #DEFAULT_MAXIMUM_SIZE} files.
+     *
+     * @param file
+     *         the file that stores the cache
+     */
+    public PackageNameCache(final Path file) {
+        this(file, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Creates a new instance of {@link PackageNameCache}. The content of the specified file is read if the file
+     * exists.
+     *
+     * @param file
+     *         the file that stores the cache
+     * @param maximumSize
+     *         the maximum number of files in the cache
+     */
+    @SuppressWarnings("serial")
+    public PackageNameCache(final Path file, final int maximumSize) {
+        this.file = file;
+        packagesByFileName = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Entry<String, CachedPackage> eldest) {
+                return size() > maximumSize;
+            }
+        };
+
+        if (Files.isRegularFile(file)) {
+            try {
+                read();
+            }
+            catch (IOException exception) {
+                packagesByFileName.clear(); // ignore the broken cache, it will be replaced
+            }
+        }
+    }
+
+    private void read() throws IOException {
+        try (var input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (input.readInt() != MAGIC) {
+                throw new StreamCorruptedException("The file does not contain cached package names");
+            }
+            int size = input.readInt();
+            for (int i = 0; i < size; i++) {
+                var fileName = input.readUTF();
+                packagesByFileName.put(fileName, new CachedPackage(input.readLong(), input.readLong(),
+                        input.readUTF(), input.readUTF()));
+            }
+        }
+    }
+
+    /**
+     * Returns the package name of the specified source file. If the cache contains a valid entry for the source file,
+     * then the cached package name is returned. Otherwise, the package name is detected using the specified detector
+     * and stored in the cache. The properties of the source file are obtained before the detector reads the file, so
+     * that a modification during the detection invalidates the new cache entry.
+     *
+     * @param fileName
+     *         the absolute path of the source file
+     * @param charset
+     *         the character set that is used to read the source file
+     * @param detector
+     *         detects the package name by reading the source file, returns an empty string if the source file has no
+     *         package
+     *
+     * @return the package name or an empty string if the source file has no package
+     */
+    String computeIfAbsent(final String fileName, final Charset charset, final Supplier<String> detector) {
+        var attributes = readAttributes(fileName);
+        synchronized (this) {
+            var cached = packagesByFileName.get(fileName);
+            if (cached != null && attributes.filter(a -> cached.isValidFor(a, charset)).isPresent()) {
+                hits++;
+                return cached.packageName;
+            }
+            misses++;
+        }
+
+        var packageName = detector.get();
+        attributes.ifPresent(a -> put(fileName, new CachedPackage(a.size(), a.lastModifiedTime().toMillis(),
+                charset.name(), packageName)));
+        return packageName;
+    }
+
+    private synchronized void put(final String fileName, final CachedPackage cachedPackage) {
+        packagesByFileName.put(fileName, cachedPackage);
+        isModified = true;
+    }
+
+    private Optional<BasicFileAttributes> readAttributes(final String fileName) {
+        try {
+            return Optional.of(Files.readAttributes(Path.of(fileName), BasicFileAttributes.class));
+        }
+        catch (IOException | InvalidPathException exception) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes the cache to its file if it has been modified since it has been read.
+     *
+     * @throws IOException
+     *         if the cache can't be written
+     */
+    public synchronized void store() throws IOException {
+        if (!isModified) {
+            return;
+        }
+        try (var output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(packagesByFileName.size());
+            for (Entry<String, CachedPackage> entry : packagesByFileName.entrySet()) {
+                output.writeUTF(entry.getKey());
+                var cached = entry.getValue();
+                output.writeLong(cached.size);
+                output.writeLong(cached.lastModified);
+                output.writeUTF(cached.charset);
+                output.writeUTF(cached.packageName);
+            }
+        }
+        isModified = false;
+    }
+
+    /**
+     * Returns the number of files in the cache.
+     *
+     * @return the number of files
+     */
+    public synchronized int size() {
+        return packagesByFileName.size();
+    }
+
+    /**
+     * Returns the number of lookups that have been answered from the cache since this cache has been created.
+     *
+     * @return the number of cache hits
+     */
+    public synchronized int getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of lookups that required reading the source file since this cache has been created.
+     *
+     * @return the number of cache misses
+     */
+    public synchronized int getMisses() {
+        return misses;
+    }
+
+    /**
+     * The package name of a source file, together with the properties that are used to detect modifications.
+     */
+    private static final class CachedPackage {
+        private final long size;
+        private final long lastModified;
+        private final String charset;
+        private final String packageName;
+
+        CachedPackage(final long size, final long lastModified, final String charset, final String packageName) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.charset = charset;
+            this.packageName = packageName;
+        }
+
+        boolean isValidFor(final BasicFileAttributes attributes, final Charset actualCharset) {
+            return attributes.size() == size && attributes.lastModifiedTime().toMillis() == lastModified
+                    && charset.equals(actualCharset.name());
+        }
+    }
+}
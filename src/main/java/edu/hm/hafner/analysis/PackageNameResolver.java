@@ -1,34 +1,97 @@
 package edu.hm.hafner.analysis;
 
+import java.io.IOException;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
+import org.apache.commons.lang3.StringUtils;
+
 import edu.hm.hafner.util.PackageDetectorFactory;
 import edu.hm.hafner.util.PackageDetectorRunner;
 import edu.hm.hafner.util.VisibleForTesting;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 
 /**
- * Resolves packages or namespace names for a set of issues.
+ * Resolves packages or namespace names for a set of issues. The affected files are read using the configured {@link
+ * Executor}: by default all files are read sequentially in the calling thread.
  *
  * @author Ullrich Hafner
  */
 public class PackageNameResolver {
     private final PackageDetectorRunner runner;
+    @CheckForNull
+    private final PackageNameCache cache;
+    private final Executor executor;
 
     /**
      * Creates a new {@link PackageNameResolver}.
      */
     public PackageNameResolver() {
-        this(PackageDetectorFactory.createPackageDetectors());
+        this(createPackageDetectors(), null, Runnable::run);
+    }
+
+    /**
+     * Creates a new {@link PackageNameResolver} that uses the specified cache. The cache is consulted before a source
+     * file is read, newly detected package names are added to the cache. The cache is stored after all package names
+     * have been resolved.
+     *
+     * @param cache
+     *         the cache of package names
+     */
+    public PackageNameResolver(final PackageNameCache cache) {
+        this(createPackageDetectors(), cache, Runnable::run);
+    }
+
+    /**
+     * Creates a new {@link PackageNameResolver} that reads the files in parallel. Each affected file is read as a
+     * separate task of the specified executor. Use an executor with a limited number of threads (e.g., {@link
+     * java.util.concurrent.Executors#newFixedThreadPool(int)}) to limit the number of concurrent reads, e.g. on a network
+     * file system. The executor is not shut down by this resolver.
+     *
+     * @param executor
+     *         the executor that reads the affected files
+     */
+    public PackageNameResolver(final Executor executor) {
+        this(createPackageDetectors(), null, executor);
+    }
+
+    /**
+     * Creates a new {@link PackageNameResolver} that uses the specified cache and reads the files in parallel.
+     *
+     * @param executor
+     *         the executor that reads the affected files
+     * @param cache
+     *         the cache of package names
+     * @see #PackageNameResolver(Executor)
+     * @see #PackageNameResolver(PackageNameCache)
+     */
+    public PackageNameResolver(final Executor executor, final PackageNameCache cache) {
+        this(createPackageDetectors(), cache, executor);
     }
 
     @VisibleForTesting
     PackageNameResolver(final PackageDetectorRunner runner) {
+        this(runner, null, Runnable::run);
+    }
+
+    @VisibleForTesting
+    PackageNameResolver(final PackageDetectorRunner runner, @CheckForNull final PackageNameCache cache,
+            final Executor executor) {
         this.runner = runner;
+        this.cache = cache;
+        this.executor = executor;
+    }
+
+    private static PackageDetectorRunner createPackageDetectors() {
+        return PackageDetectorFactory.createPackageDetectors();
     }
 
     /**
@@ -51,9 +114,15 @@ public class PackageNameResolver {
             return;
         }
 
+        int hits = cache == null ? 0 : cache.getHits();
+        int misses = cache == null ? 0 : cache.getMisses();
+        List<CompletableFuture<Optional<Map.Entry<String, String>>>> results = new ArrayList<>();
+        for (String fileName : filesWithoutPackageName) {
+            results.add(CompletableFuture.supplyAsync(() -> extractPackageName(fileName, charset), executor));
+        }
         Map<String, String> packagesOfFiles = new HashMap<>();
-        filesWithoutPackageName.stream()
-                .map(f -> extractPackageName(f, charset))
+        results.stream()
+                .map(CompletableFuture::join)
                 .flatMap(Optional::stream)
                 .forEach(e -> packagesOfFiles.put(e.getKey(), e.getValue()));
 
@@ -64,10 +133,37 @@ public class PackageNameResolver {
                 }
             });
         }
+        report.markAsModified();
         report.logInfo("-> resolved package names of %d affected files", filesWithoutPackageName.size());
+
+        if (cache != null) {
+            storeCache(report, cache, hits, misses);
+        }
+    }
+
+    private void storeCache(final Report report, final PackageNameCache packageNameCache,
+            final int previousHits, final int previousMisses) {
+        report.logInfo("-> package name cache: %d hits, %d misses",
+                packageNameCache.getHits() - previousHits, packageNameCache.getMisses() - previousMisses);
+        try {
+            packageNameCache.store();
+        }
+        catch (IOException exception) {
+            report.logException(exception, "Can't store package name cache");
+        }
     }
 
     private Optional<Map.Entry<String, String>> extractPackageName(final String fileName, final Charset charset) {
-        return runner.detectPackageName(fileName, charset).map(r -> Map.entry(fileName, r));
+        return detectPackageName(fileName, charset).map(r -> Map.entry(fileName, r));
+    }
+
+    private Optional<String> detectPackageName(final String fileName, final Charset charset) {
+        if (cache == null) {
+            return runner.detectPackageName(fileName, charset);
+        }
+
+        return Optional.of(cache.computeIfAbsent(fileName, charset,
+                        () -> runner.detectPackageName(fileName, charset).orElse(StringUtils.EMPTY)))
+                .filter(StringUtils::isNotEmpty);
     }
 }
@@ -0,0 +1,298 @@
+package edu.hm.hafner.analysis;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * Finds text that matches at least one of a set of regular expressions. All expressions are compiled only once, when
+ * the filter is created. Expressions that actually are literals (optionally surrounded by {@code .*} or anchored using
+ * {@code ^} and {@code $}) are evaluated using a simple substring, prefix, suffix, or equality check. All remaining
+ * expressions are combined into a single alternation, so that a text needs to be scanned only once.
+ *
+ * <p>
+ * All expressions are evaluated in {@link Pattern#DOTALL} mode using {@link java.util.regex.Matcher#find()}.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+final class PatternFilter {
+    private static final String META_CHARACTERS = "\\^$.|?*+()[]{}";
+    private static final String ANY = ".*";
+    private static final String LINE_BREAKS = "\r\n";
+    /** The line terminators that are recognized by {@code $} if {@link Pattern#UNIX_LINES} mode is not enabled. */
+    private static final String LINE_TERMINATORS = "\n\r\u0085\u2028\u2029";
+    private static final String CRLF = "\r\n";
+    /** Expressions that can't be combined safely with other expressions into an alternation. */
+    private static final Pattern NOT_COMBINABLE = Pattern.compile(
+            "\\\\[1-9]|\\\\k<|\\(\\?<[a-zA-Z]|\\\\Q|\\(\\?[a-zA-Z-]*x");
+    private static final String SEPARATOR = System.lineSeparator();
+
+    private final List<String> literals = new ArrayList<>();
+    private final List<String> prefixes = new ArrayList<>();
+    private final List<String> suffixes = new ArrayList<>();
+    private final List<String> exactTexts = new ArrayList<>();
+    private final List<Pattern> patterns = new ArrayList<>();
+
+    /**
+     * Creates a new filter for the specified regular expressions.
+     *
+     * @param expressions
+     *         the regular expressions
+     *
+     * @throws java.util.regex.PatternSyntaxException
+     *         if one of the expressions is not a valid regular expression
+     */
+    PatternFilter(final Collection<String> expressions) {
+        List<Pattern> combinable = new ArrayList<>();
+        for (String expression : expressions) {
+            var pattern = Pattern.compile(expression, Pattern.DOTALL); // fail early for invalid expressions
+
+            var trimmed = trimWildcards(expression);
+            var isPrefix = trimmed.startsWith("^");
+            var body = isPrefix ? trimmed.substring(1) : trimmed;
+            var isSuffix = body.endsWith("$") && !isEscaped(body, body.length() - 1);
+            var literal = unescape(isSuffix ? body.substring(0, body.length() - 1) : body);
+            if (literal != null && StringUtils.containsNone(literal, LINE_BREAKS)) {
+                if (isPrefix && isSuffix) {
+                    exactTexts.add(literal);
+                }
+                else if (isPrefix) {
+                    prefixes.add(literal);
+                }
+                else if (isSuffix) {
+                    suffixes.add(literal);
+                }
+                else {
+                    literals.add(literal);
+                }
+            }
+            else if (NOT_COMBINABLE.matcher(expression).find()) {
+                patterns.add(pattern);
+            }
+            else {
+                combinable.add(pattern);
+            }
+        }
+        if (combinable.size() == 1) {
+            patterns.add(combinable.get(0));
+        }
+        else if (combinable.size() > 1) {
+            patterns.add(Pattern.compile(combinable.stream()
+                    .map(pattern -> "(?:" + pattern.pattern() + ")")
+                    .collect(Collectors.joining("|")), Pattern.DOTALL));
+        }
+    }
+
+    /**
+     * Removes leading and trailing {@code .*} sequences, since these do not change the result of
+     * {@link java.util.regex.Matcher#find()} in {@link Pattern#DOTALL} mode.
+     */
+    private String trimWildcards(final String expression) {
+        var trimmed = expression;
+        while (trimmed.startsWith(ANY)) {
+            trimmed = trimmed.substring(ANY.length());
+        }
+        while (trimmed.endsWith(ANY) && !isEscaped(trimmed, trimmed.length() - ANY.length())) {
+            trimmed = trimmed.substring(0, trimmed.length() - ANY.length());
+        }
+        return trimmed;
+    }
+
+    private boolean isEscaped(final String expression, final int position) {
+        int backslashes = 0;
+        for (int i = position - 1; i >= 0 && expression.charAt(i) == '\\'; i--) {
+            backslashes++;
+        }
+        return backslashes % 2 == 1;
+    }
+
+    /**
+     * Removes a line terminator at the end of the specified text. The anchor {@code $} matches at the end of the text
+     * and before such a final line terminator.
+     */
+    private static String removeFinalLineTerminator(final String text) {
+        if (text.endsWith(CRLF)) {
+            return text.substring(0, text.length() - CRLF.length());
+        }
+        if (!text.isEmpty() && LINE_TERMINATORS.indexOf(text.charAt(text.length() - 1)) >= 0) {
+            return text.substring(0, text.length() - 1);
+        }
+        return text;
+    }
+
+    private static boolean endsWith(final String text, final String suffix) {
+        return text.endsWith(suffix) || removeFinalLineTerminator(text).endsWith(suffix);
+    }
+
+    private static boolean isEqualTo(final String text, final String exactText) {
+        return text.equals(exactText) || removeFinalLineTerminator(text).equals(exactText);
+    }
+
+    /**
+     * Returns the literal text that is matched by the specified expression.
+     *
+     * @param expression
+     *         the expression
+     *
+     * @return the literal text, or {@code null} if the expression contains meta characters
+     */
+    @CheckForNull
+    private String unescape(final String expression) {
+        var literal = new StringBuilder(expression.length());
+        for (int i = 0; i < expression.length(); i++) {
+            char c = expression.charAt(i);
+            if (c == '\\') {
+                if (i + 1 == expression.length() || Character.isLetterOrDigit(expression.charAt(i + 1))) {
+                    return null; // character classes and escape sequences are not literals
+                }
+                literal.append(expression.charAt(++i));
+            }
+            else if (META_CHARACTERS.indexOf(c) >= 0) {
+                return null;
+            }
+            else {
+                literal.append(c);
+            }
+        }
+        return literal.toString();
+    }
+
+    /**
+     * Returns whether the specified text contains a match of one of the expressions.
+     *
+     * @param text
+     *         the text to match
+     *
+     * @return {@code true} if at least one expression has been found in the text
+     */
+    boolean find(final String text) {
+        for (String literal : literals) {
+            if (text.contains(literal)) {
+                return true;
+            }
+        }
+        for (String prefix : prefixes) {
+            if (text.startsWith(prefix)) {
+                return true;
+            }
+        }
+        if (findSuffix(text)) {
+            return true;
+        }
+        for (Pattern pattern : patterns) {
+            if (pattern.matcher(text).find()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean findSuffix(final String text) {
+        for (String suffix : suffixes) {
+            if (endsWith(text, suffix)) {
+                return true;
+            }
+        }
+        for (String exactText : exactTexts) {
+            if (isEqualTo(text, exactText)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether the text that is composed of the two specified parts (separated by a line break) contains a
+     * match of one of the expressions. The composed text is not created, the expressions are evaluated on the parts.
+     *
+     * @param first
+     *         the first part of the text to match
+     * @param second
+     *         the second part of the text to match
+     *
+     * @return {@code true} if at least one expression has been found in the text
+     */
+    boolean find(final String first, final String second) {
+        for (String literal : literals) { // literals do not contain line breaks, so they can't span both parts
+            if (first.contains(literal) || second.contains(literal)) {
+                return true;
+            }
+        }
+        for (String prefix : prefixes) {
+            if (first.startsWith(prefix)) {
+                return true;
+            }
+        }
+        // the composed text ends with the second part, or with the line break if the second part is empty
+        if (second.isEmpty() ? findSuffix(first + SEPARATOR) : findSuffixInSecondPart(second)) {
+            return true;
+        }
+        if (patterns.isEmpty()) {
+            return false;
+        }
+        var text = new JoinedText(first, second);
+        for (Pattern pattern : patterns) {
+            if (pattern.matcher(text).find()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean findSuffixInSecondPart(final String second) {
+        for (String suffix : suffixes) {
+            if (endsWith(second, suffix)) {
+                return true;
+            }
+        }
+        return false; // the composed text contains a line break before the second part, so it can't be an exact text
+    }
+
+    /**
+     * A read-only view of two strings that are separated by a line break.
+     */
+    private static final class JoinedText implements CharSequence {
+        private final String first;
+        private final String second;
+        private final int secondStart;
+
+        JoinedText(final String first, final String second) {
+            this.first = first;
+            this.second = second;
+            secondStart = first.length() + SEPARATOR.length();
+        }
+
+        @Override
+        public int length() {
+            return secondStart + second.length();
+        }
+
+        @Override
+        public char charAt(final int index) {
+            if (index < first.length()) {
+                return first.charAt(index);
+            }
+            if (index < secondStart) {
+                return SEPARATOR.charAt(index - first.length());
+            }
+            return second.charAt(index - secondStart);
+        }
+
+        @Override
+        public CharSequence subSequence(final int start, final int end) {
+            return toString().substring(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return first + SEPARATOR + second;
+        }
+    }
+}
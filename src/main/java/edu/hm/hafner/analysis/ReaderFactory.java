@@ -26,14 +26,14 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
  */
 public abstract class ReaderFactory {
     private static final Function<String, String> IDENTITY = Function.identity();
+    private static final char ESCAPE = '\u001B';
 
     private final Charset charset;
     private final Function<String, String> lineMapper;
 
     private static final Pattern ANSI_COLOR_CODES
             = Pattern.compile("\u001B\\[[;\\d]*[ -/]*[@-~]");
-    private static final Function<String, String> REMOVE_COLOR_CODES
-            = string -> ANSI_COLOR_CODES.matcher(string).replaceAll(StringUtils.EMPTY);
+    private static final Function<String, String> REMOVE_COLOR_CODES = ReaderFactory::removeColorCodes;
 
     /**
      * Creates a new factory to read a resource with a given charset.
@@ -55,7 +55,23 @@ public abstract class ReaderFactory {
      */
     public ReaderFactory(final Charset charset, final Function<String, String> lineMapper) {
         this.charset = charset;
-        this.lineMapper = REMOVE_COLOR_CODES.compose(lineMapper);
+        this.lineMapper = lineMapper;
+    }
+
+    /**
+     * Removes the ANSI color codes from the specified line. Since most lines do not contain any color codes, the
+     * regular expression is evaluated only if the line contains an escape character.
+     *
+     * @param line
+     *         the line to clean
+     *
+     * @return the line without color codes
+     */
+    private static String removeColorCodes(final String line) {
+        if (line.indexOf(ESCAPE) < 0) {
+            return line;
+        }
+        return ANSI_COLOR_CODES.matcher(line).replaceAll(StringUtils.EMPTY);
     }
 
     /**
@@ -74,25 +90,44 @@ public abstract class ReaderFactory {
     public abstract Reader create();
 
     /**
-     * Provides the lines of the file as a {@link Stream} of strings.
+     * Provides the lines of the file as a {@link Stream} of strings. Each line is transformed by the line mapper of
+     * this factory, ANSI color codes are removed.
      *
      * @return the file content as stream
      * @throws ParsingException
      *         if the file could not be read
      */
+    @MustBeClosed
+    @SuppressWarnings("MustBeClosedChecker")
+    public Stream<String> readStream() {
+        var lines = readLines();
+        if (hasLineMapper()) {
+            return lines.map(lineMapper).map(REMOVE_COLOR_CODES);
+        }
+        return lines.map(REMOVE_COLOR_CODES);
+    }
+
+    /**
+     * Provides the lines of a file in a structured format (XML, JSON, etc.) as a {@link Stream} of strings. In
+     * contrast to {@link #readStream()}, the lines are not mapped at all: structured formats do not contain ANSI color
+     * codes or console annotations.
+     *
+     * @return the file content as stream
+     * @throws ParsingException
+     *         if the file could not be read
+     */
+    @MustBeClosed
+    public Stream<String> readStructuredStream() {
+        return readLines();
+    }
+
     @MustBeClosed
     @SuppressWarnings({"MustBeClosedChecker", "PMD.CloseResource"})
     @SuppressFBWarnings("OS_OPEN_STREAM")
-    public Stream<String> readStream() {
+    private Stream<String> readLines() {
         try {
             var reader = new BufferedReader(create());
-            Stream<String> stringStream = reader.lines().onClose(closeReader(reader));
-            if (hasLineMapper()) {
-                return stringStream.map(lineMapper);
-            }
-            else {
-                return stringStream;
-            }
+            return reader.lines().onClose(closeReader(reader));
         }
         catch (UncheckedIOException e) {
             throw new ParsingException(e);
@@ -111,6 +146,42 @@ public abstract class ReaderFactory {
         };
     }
 
+    /**
+     * Maps the specified line in the same way as the lines of {@link #readStream()} are mapped.
+     *
+     * @param line
+     *         the line to map
+     *
+     * @return the mapped line
+     */
+    String mapLine(final String line) {
+        if (hasLineMapper()) {
+            return removeColorCodes(lineMapper.apply(line));
+        }
+        return removeColorCodes(line);
+    }
+
+    /**
+     * Returns whether the specified line needs to be mapped by {@link #mapLine(String)}. If not, then the mapping
+     * would return the line unchanged.
+     *
+     * @param line
+     *         the line to check
+     *
+     * @return {@code true} if the line needs to be mapped, {@code false} otherwise
+     */
+    boolean isMappingRequired(final CharSequence line) {
+        if (hasLineMapper()) {
+            return true;
+        }
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) == ESCAPE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @SuppressWarnings("PMD.CompareObjectsWithEquals")
     @SuppressFBWarnings(value = "RCN_REDUNDANT_NULLCHECK_OF_NONNULL_VALUE", justification = "test stub")
     private boolean hasLineMapper() {
@@ -133,6 +204,23 @@ public abstract class ReaderFactory {
         }
     }
 
+    /**
+     * Reads the whole file of a structured format (XML, JSON, etc.) into a {@link String}. In contrast to
+     * {@link #readString()}, the lines are not mapped at all.
+     *
+     * @return the file content as string
+     * @throws ParsingException
+     *         if the file could not be read
+     */
+    public String readStructuredString() {
+        try (Stream<String> lines = readStructuredStream()) {
+            return lines.collect(Collectors.joining("\n"));
+        }
+        catch (UncheckedIOException exception) {
+            throw new ParsingException(exception);
+        }
+    }
+
     /**
      * Parses the whole file into a {@link Document}.
      *
@@ -0,0 +1,227 @@
+package edu.hm.hafner.analysis;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+import edu.hm.hafner.util.Generated;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * Index of the issues of a reference report that is used to match the issues of a current report. The reference issues
+ * are indexed once by equality and by fingerprint, so each current issue is matched with a single hash lookup. Matched
+ * reference issues are marked in the index: each reference issue is matched at most once.
+ *
+ * @author Ullrich Hafner
+ */
+class ReferenceIndex {
+    private final List<Issue> references = new ArrayList<>();
+    private final Map<Issue, List<Issue>> referencesByEquality = new HashMap<>();
+    private final Map<String, Deque<Issue>> referencesByFingerprint = new HashMap<>();
+    private final Set<Issue> matchedReferences = Collections.newSetFromMap(new IdentityHashMap<>());
+    @CheckForNull
+    private Map<Location, NavigableMap<Integer, Deque<Issue>>> referencesByLocation;
+
+    ReferenceIndex(final Iterable<? extends Issue> referenceIssues) {
+        for (Issue issue : referenceIssues) {
+            references.add(issue);
+            referencesByEquality.computeIfAbsent(issue, key -> new ArrayList<>()).add(issue);
+            referencesByFingerprint.computeIfAbsent(issue.getFingerprint(), key -> new ArrayDeque<>()).add(issue);
+        }
+    }
+
+    /**
+     * Finds an unmatched reference issue that is equal to the specified issue. If there are several equal reference
+     * issues, then the first one with the same fingerprint is preferred. The returned reference issue is marked as
+     * matched.
+     *
+     * @param current
+     *         the current issue
+     *
+     * @return the matching reference issue, or {@code null} if there is no such issue
+     */
+    @CheckForNull
+    Issue matchByEquals(final Issue current) {
+        var equalIssues = referencesByEquality.get(current);
+        if (equalIssues == null) {
+            return null;
+        }
+        var reference = removeIssueWithSameFingerprint(current, equalIssues);
+        if (equalIssues.isEmpty()) {
+            referencesByEquality.remove(current);
+        }
+        matchedReferences.add(reference);
+        return reference;
+    }
+
+    private Issue removeIssueWithSameFingerprint(final Issue current, final List<Issue> equalIssues) {
+        for (int i = 0; i < equalIssues.size(); i++) {
+            if (equalIssues.get(i).getFingerprint().equals(current.getFingerprint())) {
+                return equalIssues.remove(i);
+            }
+        }
+        return equalIssues.remove(0);
+    }
+
+    /**
+     * Finds an unmatched reference issue that has the same fingerprint as the specified issue. The returned reference
+     * issue is marked as matched.
+     *
+     * @param current
+     *         the current issue
+     *
+     * @return the matching reference issue, or {@code null} if there is no such issue
+     */
+    @CheckForNull
+    Issue matchByFingerprint(final Issue current) {
+        var candidates = referencesByFingerprint.get(current.getFingerprint());
+        if (candidates == null) {
+            return null;
+        }
+        while (!candidates.isEmpty()) {
+            var reference = candidates.poll();
+            if (matchedReferences.add(reference)) {
+                return reference;
+            }
+        }
+        referencesByFingerprint.remove(current.getFingerprint());
+        return null;
+    }
+
+    /**
+     * Finds an unmatched reference issue that has the same file name, type, and message as the specified issue and
+     * that starts at the closest line, as long as the distance of the start lines is not greater than the specified
+     * maximum. If two reference issues have the same distance, then the issue above the current issue is preferred.
+     * The returned reference issue is marked as matched. The index of the locations is created with the first call
+     * of this method, so this method should be called after all other matches have been resolved.
+     *
+     * @param current
+     *         the current issue
+     * @param maximumLineShift
+     *         the maximum number of lines the issue may have been moved
+     *
+     * @return the matching reference issue, or {@code null} if there is no such issue
+     */
+    @CheckForNull
+    Issue matchByLineShift(final Issue current, final int maximumLineShift) {
+        var location = new Location(current);
+        var referencesByLine = getReferencesByLocation().get(location);
+        if (referencesByLine == null) {
+            return null;
+        }
+
+        int line = current.getLineStart();
+        var above = referencesByLine.floorEntry(line);
+        var below = referencesByLine.ceilingEntry(line);
+        Entry<Integer, Deque<Issue>> closest;
+        if (above == null) {
+            closest = below;
+        }
+        else if (below == null || line - above.getKey() <= below.getKey() - line) {
+            closest = above;
+        }
+        else {
+            closest = below;
+        }
+        if (closest == null || Math.abs(closest.getKey() - line) > maximumLineShift) {
+            return null;
+        }
+
+        var candidates = closest.getValue();
+        var reference = candidates.remove();
+        if (candidates.isEmpty()) {
+            referencesByLine.remove(closest.getKey());
+            if (referencesByLine.isEmpty()) {
+                getReferencesByLocation().remove(location);
+            }
+        }
+        matchedReferences.add(reference);
+        return reference;
+    }
+
+    private Map<Location, NavigableMap<Integer, Deque<Issue>>> getReferencesByLocation() {
+        if (referencesByLocation == null) {
+            Map<Location, NavigableMap<Integer, Deque<Issue>>> index = new HashMap<>();
+            forEachUnmatched(reference -> index.computeIfAbsent(new Location(reference), key -> new TreeMap<>())
+                    .computeIfAbsent(reference.getLineStart(), key -> new ArrayDeque<>())
+                    .add(reference));
+            referencesByLocation = index;
+            return index;
+        }
+        return referencesByLocation;
+    }
+
+    /**
+     * Returns whether the specified reference issue has been matched already.
+     *
+     * @param reference
+     *         the reference issue
+     *
+     * @return {@code true} if the reference issue has been matched, {@code false} otherwise
+     */
+    boolean isMatched(final Issue reference) {
+        return matchedReferences.contains(reference);
+    }
+
+    /**
+     * Performs the given action for each reference issue that has not been matched, in the order of the reference
+     * report.
+     *
+     * @param action
+     *         the action to perform
+     */
+    void forEachUnmatched(final Consumer<Issue> action) {
+        for (Issue reference : references) {
+            if (!isMatched(reference)) {
+                action.accept(reference);
+            }
+        }
+    }
+
+    /**
+     * The properties of an issue that need to match if an issue has been moved to another line.
+     */
+    private static final class Location {
+        private final String fileName;
+        private final String type;
+        private final String message;
+
+        Location(final Issue issue) {
+            fileName = issue.getFileName();
+            type = issue.getType();
+            message = issue.getMessage();
+        }
+
+        @Override
+        @Generated
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            var location = (Location) o;
+            return fileName.equals(location.fileName)
+                    && type.equals(location.type)
+                    && message.equals(location.message);
+        }
+
+        @Override
+        @Generated
+        public int hashCode() {
+            return Objects.hash(fileName, type, message);
+        }
+    }
+}
@@ -10,6 +10,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -20,9 +21,9 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -39,6 +40,7 @@ import edu.hm.hafner.util.LineRangeList;
 import edu.hm.hafner.util.PathUtil;
 import edu.hm.hafner.util.TreeStringBuilder;
 import edu.hm.hafner.util.VisibleForTesting;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
@@ -53,6 +55,12 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
  * use the provided {@link IssueBuilder builder} class.
  * </p>
  *
+ * <p>
+ * Note that this class is not thread-safe, even if a report is only read: some read methods (like {@link #get(int)},
+ * {@link #findById(UUID)}, or {@link #getStatistics()}) create and cache an index or statistics of the issues on
+ * first access. If a report needs to be read by several threads, then the access must be synchronized externally.
+ * </p>
+ *
  * @author Ullrich Hafner
  */
 @SuppressWarnings({"PMD.ExcessivePublicCount", "PMD.ExcessiveClassLength", "PMD.GodClass", "PMD.CognitiveComplexity", "PMD.CyclomaticComplexity", "checkstyle:ClassFanOutComplexity"})
@@ -79,6 +87,13 @@ public class Report implements Iterable<Issue>, Serializable {
 
     private int duplicatesSize;
 
+    private transient long modificationCount; // number of structural modifications of this report
+    @CheckForNull
+    private transient ReportIndex issueIndex; // lazily created, covers all sub-reports
+    @CheckForNull
+    private transient ReportStatistics statistics; // lazily created, covers all sub-reports
+    private transient long statisticsModificationCount;
+
     /**
      * Creates an empty {@link Report}.
      */
@@ -237,7 +252,9 @@ public class Report implements Iterable<Issue>, Serializable {
         id = normalizedId;
         name = normalizedName;
         subReports.forEach(report -> report.setOrigin(normalizedId, normalizedName));
-        elements.forEach(issue -> issue.setOrigin(normalizedId, normalizedName));    }
+        elements.forEach(issue -> issue.setOrigin(normalizedId, normalizedName));
+        rehash(); // the origin is part of the hash code of the issues
+    }
 
     /**
      * Sets the origin of all issues in this report. Calling this method will associate all containing issues and issues
@@ -379,7 +396,10 @@ public class Report implements Iterable<Issue>, Serializable {
             duplicatesSize++; // elements are marked as duplicate if the fingerprint is different
         }
         else {
+            var index = getIndexIfUpToDate();
             elements.add(issue);
+            modificationCount++;
+            index.ifPresent(upToDate -> updateIndex(upToDate, issue));
         }
 
         return this;
@@ -456,31 +476,31 @@ public class Report implements Iterable<Issue>, Serializable {
             }
         }
 
+        var index = getIndex();
         for (Report report : reportsToAdd) {
             var copyWithoutDuplicates = report.copyEmptyInstance();
             for (Issue issue : report) {
-                if (contains(issue)) {
+                if (index.contains(issue)) {
                     duplicatesSize++; // elements are marked as duplicate if the fingerprint is different
                 }
                 else {
                     copyWithoutDuplicates.add(issue);
+                    index.add(issue, copyWithoutDuplicates);
                 }
             }
             subReports.add(copyWithoutDuplicates);
+            modificationCount++;
+            index.setModificationCount(getModificationCount());
         }
 
         return this;
     }
 
     private boolean contains(final Issue issue) {
-        return elements.contains(issue) || subReportsContains(issue);
-    }
-
-    private Boolean subReportsContains(final Issue issue) {
-        return subReports.stream()
-                .map(r -> r.contains(issue))
-                .reduce(Boolean::logicalOr)
-                .orElse(false);
+        if (subReports.isEmpty()) {
+            return elements.contains(issue);
+        }
+        return getIndex().contains(issue);
     }
 
     @VisibleForTesting
@@ -526,34 +546,76 @@ public class Report implements Iterable<Issue>, Serializable {
      *         if there is no such issue found
      */
     Issue remove(final UUID issueId) {
-        Optional<Issue> issue = removeIfContained(issueId);
-        if (issue.isPresent()) {
-            return issue.get();
-        }
-        throw new NoSuchElementException("No removed found with id %s.".formatted(issueId));
-    }
+        var index = getIndex();
+        var issue = index.findIssue(issueId).orElseThrow(
+                () -> new NoSuchElementException("No removed found with id %s.".formatted(issueId)));
+        var owner = index.findReport(issueId).orElseThrow(
+                () -> new IllegalStateException("No report found for issue with id %s.".formatted(issueId)));
 
-    private Optional<Issue> removeIfContained(final UUID issueId) {
-        Optional<Issue> issue = find(issueId);
-        if (issue.isPresent()) {
-            elements.remove(issue.get());
-            return issue;
+        owner.elements.remove(issue);
+        owner.modificationCount++;
+        if (index.remove(issueId)) {
+            index.setModificationCount(index.getModificationCount() + 1);
+        }
+        else {
+            issueIndex = null;
         }
 
+        return issue;
+    }
+
+    /**
+     * Returns the number of structural modifications of this report and all of its sub-reports. This number is used to
+     * detect whether the index is still up-to-date.
+     *
+     * @return the number of modifications
+     */
+    private long getModificationCount() {
+        long count = modificationCount;
         for (Report subReport : subReports) {
-            issue = subReport.removeIfContained(issueId);
-            if (issue.isPresent()) {
-                return issue;
-            }
+            count += subReport.getModificationCount();
         }
+        return count;
+    }
 
+    private Optional<ReportIndex> getIndexIfUpToDate() {
+        if (issueIndex != null && issueIndex.getModificationCount() == getModificationCount()) {
+            return Optional.of(issueIndex);
+        }
         return Optional.empty();
     }
 
-    private Optional<Issue> find(final UUID issueId) {
-        return elements.stream()
-                .filter(issue -> issue.getId().equals(issueId))
-                .findAny();
+    private void updateIndex(final ReportIndex index, final Issue issue) {
+        if (index.findIssue(issue.getId()).isPresent()) {
+            issueIndex = null; // the new element hides an issue with the same ID: rebuild the index on demand
+        }
+        else {
+            index.add(issue, this);
+            index.setModificationCount(getModificationCount());
+        }
+    }
+
+    /**
+     * Returns the index of all issues in this report and its sub-reports. If the index is outdated, it will be rebuilt
+     * first.
+     *
+     * @return the index
+     */
+    private ReportIndex getIndex() {
+        var upToDate = getIndexIfUpToDate();
+        if (upToDate.isPresent()) {
+            return upToDate.get();
+        }
+
+        var index = new ReportIndex(getModificationCount());
+        addToIndex(index);
+        issueIndex = index;
+        return index;
+    }
+
+    private void addToIndex(final ReportIndex index) {
+        elements.forEach(issue -> index.add(issue, this));
+        subReports.forEach(subReport -> subReport.addToIndex(index));
     }
 
     /**
@@ -567,8 +629,7 @@ public class Report implements Iterable<Issue>, Serializable {
      *         if there is no such issue found
      */
     public Issue findById(final UUID issueId) {
-        return stream().filter(issue -> issue.getId().equals(issueId))
-                .findAny()
+        return getIndex().findIssue(issueId)
                 .orElseThrow(() -> new NoSuchElementException(
                         "No issue found with id %s.".formatted(issueId)));
     }
@@ -644,11 +705,11 @@ public class Report implements Iterable<Issue>, Serializable {
         if (index < 0 || index >= size()) {
             throw new IndexOutOfBoundsException("No such index " + index + " in " + this);
         }
-        Iterator<Issue> all = iterator();
-        for (int i = 0; i < index; i++) {
-            all.next(); // skip this element
+        var positions = getIndex();
+        if (!positions.hasPositions()) {
+            positions.setPositions(stream().collect(Collectors.toList()));
         }
-        return all.next();
+        return positions.get(index);
     }
 
     /**
@@ -662,7 +723,9 @@ public class Report implements Iterable<Issue>, Serializable {
     }
 
     /**
-     * Returns the number of issues in this container.
+     * Returns the number of issues in this container. Other than the remaining counters, this value is not obtained
+     * from the {@link #getStatistics() statistics}: it is computed from the sizes of the containers, so that calling
+     * this method while adding issues does not recompute the statistics after each modification.
      *
      * @return total number of issues
      */
@@ -730,7 +793,45 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return total number of issues
      */
     public int getSizeOf(final Severity severity) {
-        return stream().filter(issue -> issue.getSeverity().equals(severity)).mapToInt(e -> 1).sum();
+        return getStatistics().getSizeOf(severity);
+    }
+
+    /**
+     * Marks this report and all of its sub-reports as modified. This method needs to be called whenever properties of
+     * the contained issues have been changed, so that the issues are rehashed and cached values (like the statistics
+     * or the index) are computed again. Issues that are equal to another issue of the same report after such a change
+     * are merged and counted as duplicates, just like in {@link #add(Issue)}.
+     */
+    void markAsModified() {
+        subReports.forEach(Report::markAsModified);
+        rehash();
+    }
+
+    private void rehash() {
+        Set<Issue> rehashed = new LinkedHashSet<>();
+        for (Issue issue : elements) {
+            if (!rehashed.add(issue)) {
+                duplicatesSize++;
+            }
+        }
+        elements = rehashed;
+        modificationCount++;
+    }
+
+    /**
+     * Returns the statistics of this report, i.e. the number of issues per severity and the distinct values and
+     * number of issues of the most important properties. The statistics are computed in a single pass over all issues
+     * and are cached until this report or one of its sub-reports is modified.
+     *
+     * @return the statistics of this report
+     */
+    public ReportStatistics getStatistics() {
+        var modifications = getModificationCount();
+        if (statistics == null || statisticsModificationCount != modifications) {
+            statistics = new ReportStatistics(this);
+            statisticsModificationCount = modifications;
+        }
+        return statistics;
     }
 
     @Override
@@ -829,7 +930,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the affected modules
      */
     public Set<String> getModules() {
-        return getProperties(Issue::getModuleName);
+        return new HashSet<>(getStatistics().getModules());
     }
 
     /**
@@ -855,7 +956,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the affected packages
      */
     public Set<String> getPackages() {
-        return getProperties(Issue::getPackageName);
+        return new HashSet<>(getStatistics().getPackages());
     }
 
     /**
@@ -903,7 +1004,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the affected files
      */
     public Set<String> getFiles() {
-        return getProperties(Issue::getFileName);
+        return new HashSet<>(getStatistics().getFiles());
     }
 
     /**
@@ -921,7 +1022,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the used categories
      */
     public Set<String> getCategories() {
-        return getProperties(Issue::getCategory);
+        return new HashSet<>(getStatistics().getCategories());
     }
 
     /**
@@ -939,7 +1040,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the used types
      */
     public Set<String> getTypes() {
-        return getProperties(Issue::getType);
+        return new HashSet<>(getStatistics().getTypes());
     }
 
     /**
@@ -957,7 +1058,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the tools
      */
     public Set<String> getTools() {
-        return getProperties(Issue::getOrigin);
+        return new HashSet<>(getStatistics().getTools());
     }
 
     /**
@@ -975,7 +1076,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the severities
      */
     public Set<Severity> getSeverities() {
-        return getProperties(Issue::getSeverity);
+        return new HashSet<>(getStatistics().getSeverities());
     }
 
     /**
@@ -1029,13 +1130,13 @@ public class Report implements Iterable<Issue>, Serializable {
      * @see #getProperties(Function)
      */
     public Map<String, Report> groupByProperty(final String propertyName) {
-        var issues = stream()
-                .collect(Collectors.groupingBy(Issue.getPropertyValueGetter(propertyName)));
+        var propertyGetter = Issue.getPropertyValueGetter(propertyName);
 
-        return issues.entrySet().stream()
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        e -> new Report().addAll(e.getValue())));
+        Map<String, Report> reports = new HashMap<>();
+        for (Issue issue : this) {
+            reports.computeIfAbsent(propertyGetter.apply(issue), key -> new Report()).add(issue);
+        }
+        return reports;
     }
 
     /**
@@ -1218,65 +1319,112 @@ public class Report implements Iterable<Issue>, Serializable {
 
     @Serial
     private void writeObject(final ObjectOutputStream output) throws IOException {
-        output.writeInt(elements.size());
-        writeIssues(output);
-
-        output.writeObject(infoMessages);
-        output.writeObject(errorMessages);
-        output.writeObject(countersByKey);
+        new ReportCodec().writeBinaryFormat(this, output);
+    }
 
-        output.writeInt(duplicatesSize);
+    /**
+     * Writes the properties, issues, and sub-reports of this report using the specified encoder.
+     *
+     * @param encoder
+     *         the encoder of the binary format
+     *
+     * @throws IOException
+     *         if the report can't be written
+     * @see ReportCodec
+     */
+    void encode(final ReportCodec.Encoder encoder) throws IOException {
+        encoder.writeString(id);
+        encoder.writeString(name);
+        encoder.writeString(icon);
+        encoder.writeString(parserId);
+        encoder.writeString(elementType.name());
+        encoder.writeString(originReportFile);
 
-        output.writeUTF(id);
-        output.writeUTF(name);
-        output.writeUTF(icon);
-        output.writeUTF(parserId);
-        output.writeObject(elementType);
+        encoder.writeStrings(infoMessages);
+        encoder.writeStrings(errorMessages);
+        encoder.writeCounters(countersByKey);
+        encoder.writeInt(duplicatesSize);
 
-        output.writeUTF(originReportFile);
-        output.writeInt(subReports.size());
+        encoder.writeInt(elements.size());
+        for (Issue issue : elements) {
+            encoder.writeIssue(issue);
+        }
+        encoder.writeInt(subReports.size());
         for (Report subReport : subReports) {
-            output.writeObject(subReport);
+            subReport.encode(encoder);
         }
     }
 
-    private void writeIssues(final ObjectOutputStream output) throws IOException {
-        for (Issue issue : elements) {
-            output.writeUTF(issue.getPath());
-            output.writeUTF(issue.getFileName());
-            output.writeInt(issue.getLineStart());
-            output.writeInt(issue.getLineEnd());
-            output.writeInt(issue.getColumnStart());
-            output.writeInt(issue.getColumnEnd());
-            output.writeObject(issue.getLineRanges());
-            output.writeUTF(issue.getCategory());
-            output.writeUTF(issue.getType());
-            output.writeUTF(issue.getPackageName());
-            output.writeUTF(issue.getModuleName());
-            output.writeUTF(issue.getSeverity().getName());
-            writeLongString(output, issue.getMessage());
-            writeLongString(output, issue.getDescription());
-            output.writeUTF(issue.getOrigin());
-            output.writeUTF(issue.getOriginName());
-            output.writeUTF(issue.getReference());
-            output.writeUTF(issue.getFingerprint());
-            output.writeObject(issue.getAdditionalProperties());
-            output.writeObject(issue.getId());
-        }
-    }
-
-    private void writeLongString(final ObjectOutputStream output, final String value) throws IOException {
-        output.writeInt(value.length());
-        output.writeChars(value);
-    }
-
-    @SuppressWarnings("unchecked")
+    /**
+     * Reads the properties, issues, and sub-reports of this report using the specified decoder.
+     *
+     * @param decoder
+     *         the decoder of the binary format
+     *
+     * @throws IOException
+     *         if the report can't be read
+     * @see ReportCodec
+     */
+    void decode(final ReportCodec.Decoder decoder) throws IOException {
+        decodeProperties(decoder);
+
+        int size = decoder.readSize();
+        elements = new LinkedHashSet<>();
+        for (int i = 0; i < size; i++) {
+            elements.add(decoder.readIssue());
+        }
+        int subReportCount = decoder.readSize();
+        subReports = new ArrayList<>(subReportCount);
+        for (int i = 0; i < subReportCount; i++) {
+            var subReport = new Report();
+            subReport.decode(decoder);
+            subReports.add(subReport);
+        }
+    }
+
+    /**
+     * Reads the properties of this report using the specified decoder. The issues and sub-reports will not be read.
+     *
+     * @param decoder
+     *         the decoder of the binary format
+     *
+     * @throws IOException
+     *         if the properties can't be read
+     * @see ReportCodec
+     */
+    void decodeProperties(final ReportCodec.Decoder decoder) throws IOException {
+        id = decoder.readString();
+        name = decoder.readString();
+        icon = decoder.readString();
+        parserId = decoder.readString();
+        elementType = IssueType.valueOf(decoder.readString());
+        originReportFile = decoder.readString();
+
+        infoMessages = decoder.readStrings();
+        errorMessages = decoder.readStrings();
+        countersByKey = decoder.readCounters();
+        duplicatesSize = decoder.readInt();
+    }
+
     @SuppressFBWarnings(value = "MC_OVERRIDABLE_METHOD_CALL_IN_READ_OBJECT",
             justification = "False positive, the overridden method is in already initialized objects")
     @Serial
     private void readObject(final ObjectInputStream input) throws IOException, ClassNotFoundException {
+        int marker = input.readInt();
+        if (marker == ReportCodec.MAGIC) {
+            new ReportCodec().readBinaryFormat(input, this);
+        }
+        else {
+            readLegacyFormat(input, marker); // reports that have been serialized without the binary format
+        }
+    }
+
+    @SuppressFBWarnings("OBJECT_DESERIALIZATION")
+    @SuppressWarnings({"unchecked", "BanSerializableRead"})
+    private void readLegacyFormat(final ObjectInputStream input, final int size)
+            throws IOException, ClassNotFoundException {
         elements = new LinkedHashSet<>();
-        readIssues(input, input.readInt());
+        readIssues(input, size);
 
         infoMessages = (List<String>) input.readObject();
         errorMessages = (List<String>) input.readObject();
@@ -1421,13 +1569,14 @@ public class Report implements Iterable<Issue>, Serializable {
     }
 
     /**
-     * Builds a combined filter based on several include and exclude filters.
+     * Builds a combined filter based on several include and exclude filters. The regular expressions of the filters
+     * are compiled when the filter is {@link #build() built}.
      *
      * @author Raphael Furch
      */
     public static class IssueFilterBuilder {
-        private final Collection<Predicate<Issue>> includeFilters = new ArrayList<>();
-        private final Collection<Predicate<Issue>> excludeFilters = new ArrayList<>();
+        private final Collection<FilterDefinition> includeFilters = new ArrayList<>();
+        private final Collection<FilterDefinition> excludeFilters = new ArrayList<>();
 
         /** Type of the filter: include or exclude elements. */
         enum FilterType {
@@ -1448,17 +1597,22 @@ public class Report implements Iterable<Issue>, Serializable {
         private void addNewFilter(final Collection<String> patterns,
                 final Function<Issue, String> propertyToFilter,
                 final FilterType type) {
-            Collection<Predicate<Issue>> filters = new ArrayList<>();
-            for (String pattern : patterns) {
-                filters.add(issueToFilter -> Pattern.compile(pattern, Pattern.DOTALL)
-                        .matcher(propertyToFilter.apply(issueToFilter)).find() == isIncludeFilter(type));
+            addNewFilter(patterns, (filter, issue) -> filter.find(propertyToFilter.apply(issue)), type);
+        }
+
+        private void addNewFilter(final Collection<String> patterns,
+                final BiPredicate<PatternFilter, Issue> matcher,
+                final FilterType type) {
+            if (patterns.isEmpty()) {
+                return;
             }
 
+            var filter = new FilterDefinition(patterns, matcher);
             if (isIncludeFilter(type)) {
-                includeFilters.addAll(filters);
+                includeFilters.add(filter);
             }
             else {
-                excludeFilters.addAll(filters);
+                excludeFilters.add(filter);
             }
         }
 
@@ -1473,8 +1627,10 @@ public class Report implements Iterable<Issue>, Serializable {
          */
         @SuppressWarnings("NoFunctionalReturnType")
         public Predicate<Issue> build() {
-            return includeFilters.stream().reduce(Predicate::or).orElse(issue -> true)
-                    .and(excludeFilters.stream().reduce(Predicate::and).orElse(issue -> true));
+            return includeFilters.stream().map(filter -> filter.compile(true))
+                    .reduce(Predicate::or).orElse(issue -> true)
+                    .and(excludeFilters.stream().map(filter -> filter.compile(false))
+                            .reduce(Predicate::and).orElse(issue -> true));
         }
 
         //<editor-fold desc="File name">
@@ -1824,10 +1980,38 @@ public class Report implements Iterable<Issue>, Serializable {
         }
 
         private void addMessageFilter(final Collection<String> patterns, final FilterType filterType) {
-            addNewFilter(patterns, issue -> "%s%n%s".formatted(issue.getMessage(), issue.getDescription()),
+            addNewFilter(patterns, (filter, issue) -> filter.find(issue.getMessage(), issue.getDescription()),
                     filterType);
         }
         //</editor-fold>
+
+        /**
+         * The patterns of a filter for a given property. All patterns of a filter are combined into a single
+         * {@link PatternFilter}.
+         */
+        private static class FilterDefinition {
+            private final List<String> patterns;
+            private final BiPredicate<PatternFilter, Issue> matcher;
+
+            FilterDefinition(final Collection<String> patterns, final BiPredicate<PatternFilter, Issue> matcher) {
+                this.patterns = new ArrayList<>(patterns);
+                this.matcher = matcher;
+            }
+
+            /**
+             * Compiles the patterns of this filter.
+             *
+             * @param isIncludeFilter
+             *         determines whether the predicate should accept ({@code true}) or reject ({@code false}) the
+             *         issues that match one of the patterns
+             *
+             * @return a predicate that evaluates the compiled patterns
+             */
+            Predicate<Issue> compile(final boolean isIncludeFilter) {
+                var filter = new PatternFilter(patterns);
+                return issue -> matcher.test(filter, issue) == isIncludeFilter;
+            }
+        }
     }
 
     /**
@@ -0,0 +1,504 @@
+package edu.hm.hafner.analysis;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import edu.hm.hafner.util.LineRange;
+import edu.hm.hafner.util.LineRangeList;
+import edu.hm.hafner.util.TreeStringBuilder;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Reads and writes {@link Report reports} in a compact and versioned binary format. This format is used by the Java
+ * serialization of a report, but it can also be used standalone to store reports in files.
+ *
+ * <p>
+ * The format starts with a magic number and the version of the format, followed by a summary (the total number of
+ * issues and the number of issues per severity) and the report and all of its sub-reports. The summary can be read
+ * without decoding the issues, see {@link StoredReport}. Strings are stored in a dictionary that is built while writing: the first occurrence of a string is
+ * written in UTF-8, all subsequent occurrences just refer to the index of the string in the dictionary. Since file
+ * names, packages, categories, and types typically repeat heavily, this reduces the size of a report considerably.
+ * The dictionary is cleared whenever it reaches a fixed size, so that the memory required to decode a report is
+ * bounded.
+ * Numbers are written as variable length integers, so that small numbers (like line and column numbers) require only
+ * one or two bytes.
+ * </p>
+ *
+ * <p>
+ * The additional properties of issues are arbitrary serializable objects. When a report is part of a Java
+ * serialization stream, these objects are read by the enclosing {@link ObjectInputStream} so that its class filters
+ * are applied. When a report is read standalone, only the classes of the JDK packages {@code java.lang} and
+ * {@code java.util} and of the packages {@code edu.hm.hafner} are accepted, all other classes are rejected.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+public final class ReportCodec {
+    /** Magic number that identifies the binary format. Negative, so that it differs from the legacy format. */
+    static final int MAGIC = 0xA5_5E_12_0C;
+    private static final int VERSION = 2;
+    private static final int MAX_VARINT_BYTES = 5;
+    /** Maximum number of bytes or elements that are allocated before the corresponding input has been read. */
+    private static final int MAX_PREALLOCATION = 64 * 1024;
+    /** Maximum number of strings in the dictionary, the dictionary is cleared when it is full. */
+    static final int MAX_DICTIONARY_SIZE = 1 << 16;
+    private static final ObjectInputFilter ALLOWED_PROPERTIES = ObjectInputFilter.Config.createFilter(
+            "maxdepth=20;maxrefs=10000;java.lang.*;java.util.*;edu.hm.hafner.**;!*");
+
+    /**
+     * Writes the specified report (including all sub-reports) to the specified stream. The stream will not be
+     * closed.
+     *
+     * @param report
+     *         the report to write
+     * @param output
+     *         the stream to write to
+     *
+     * @throws IOException
+     *         if the report can't be written
+     */
+    public void write(final Report report, final OutputStream output) throws IOException {
+        var data = new DataOutputStream(new BufferedOutputStream(output));
+        writeBinaryFormat(report, data);
+        data.flush();
+    }
+
+    /**
+     * Writes the specified report (including all sub-reports) to a byte array.
+     *
+     * @param report
+     *         the report to write
+     *
+     * @return the report in the binary format
+     */
+    public byte[] toBytes(final Report report) {
+        try (var output = new ByteArrayOutputStream()) {
+            write(report, output);
+            return output.toByteArray();
+        }
+        catch (IOException exception) {
+            throw new IllegalStateException("Can't write report " + report, exception);
+        }
+    }
+
+    void writeBinaryFormat(final Report report, final DataOutput output) throws IOException {
+        output.writeInt(MAGIC);
+        output.writeByte(VERSION);
+        var encoder = new Encoder(output);
+        var statistics = report.getStatistics();
+        encoder.writeInt(statistics.getSize());
+        encoder.writeSeverityCounts(statistics.getCountsBySeverity());
+        report.encode(encoder);
+    }
+
+    /**
+     * Reads a report (including all sub-reports) from the specified stream. The stream will not be closed.
+     *
+     * @param input
+     *         the stream to read from
+     *
+     * @return the report
+     * @throws IOException
+     *         if the stream does not contain a valid report
+     */
+    public Report read(final InputStream input) throws IOException {
+        var data = new DataInputStream(new BufferedInputStream(input));
+        if (data.readInt() != MAGIC) {
+            throw new StreamCorruptedException("The stream does not contain a report in the binary format");
+        }
+        var report = new Report();
+        readBinaryFormat(data, report);
+        return report;
+    }
+
+    /**
+     * Reads a report (including all sub-reports) from the specified byte array.
+     *
+     * @param bytes
+     *         the report in the binary format
+     *
+     * @return the report
+     */
+    public Report fromBytes(final byte[] bytes) {
+        try (var input = new ByteArrayInputStream(bytes)) {
+            return read(input);
+        }
+        catch (IOException exception) {
+            throw new IllegalStateException("Can't read report from byte array", exception);
+        }
+    }
+
+    /**
+     * Reads the content of a report that has been written using the binary format. The magic number must already
+     * have been consumed.
+     *
+     * @param input
+     *         the input to read from
+     * @param report
+     *         the report to initialize with the content of the input
+     *
+     * @throws IOException
+     *         if the input does not contain a valid report
+     */
+    void readBinaryFormat(final DataInput input, final Report report) throws IOException {
+        var decoder = readHeader(input);
+        decoder.readSize(); // the summary is not required when all issues are decoded
+        decoder.readSeverityCounts();
+        report.decode(decoder);
+        decoder.dedup();
+    }
+
+    /**
+     * Reads the version of the binary format and returns a decoder for the remaining content.
+     *
+     * @param input
+     *         the input to read from, the magic number must already have been consumed
+     *
+     * @return the decoder for the summary and the report
+     * @throws IOException
+     *         if the version is not supported
+     */
+    Decoder readHeader(final DataInput input) throws IOException {
+        int version = input.readUnsignedByte();
+        if (version != VERSION) {
+            throw new StreamCorruptedException("Unsupported version of the binary report format: " + version);
+        }
+        return new Decoder(input);
+    }
+
+    /**
+     * Writes the properties of reports and issues using the binary format.
+     */
+    static final class Encoder {
+        private final DataOutput output;
+        private final Map<String, Integer> dictionary = new HashMap<>();
+
+        Encoder(final DataOutput output) {
+            this.output = output;
+        }
+
+        void writeInt(final int value) throws IOException {
+            int remaining = (value << 1) ^ (value >> 31); // zig-zag encoding: small negative values use a few bytes
+            while ((remaining & ~0x7F) != 0) {
+                output.writeByte((remaining & 0x7F) | 0x80);
+                remaining >>>= 7;
+            }
+            output.writeByte(remaining);
+        }
+
+        void writeString(final String value) throws IOException {
+            var index = dictionary.get(value);
+            if (index == null) {
+                writeInt(0);
+                var bytes = value.getBytes(StandardCharsets.UTF_8);
+                writeInt(bytes.length);
+                output.write(bytes);
+                if (dictionary.size() == MAX_DICTIONARY_SIZE) {
+                    dictionary.clear();
+                }
+                dictionary.put(value, dictionary.size() + 1);
+            }
+            else {
+                writeInt(index);
+            }
+        }
+
+        void writeStrings(final List<String> values) throws IOException {
+            writeInt(values.size());
+            for (String value : values) {
+                writeString(value);
+            }
+        }
+
+        void writeCounters(final Map<String, Integer> counters) throws IOException {
+            writeInt(counters.size());
+            for (Map.Entry<String, Integer> counter : counters.entrySet()) {
+                writeString(counter.getKey());
+                writeInt(counter.getValue());
+            }
+        }
+
+        void writeSeverityCounts(final Map<Severity, Integer> counts) throws IOException {
+            writeInt(counts.size());
+            for (Map.Entry<Severity, Integer> count : counts.entrySet()) {
+                writeString(count.getKey().getName());
+                writeInt(count.getValue());
+            }
+        }
+
+        void writeIssue(final Issue issue) throws IOException {
+            writeString(issue.getPath());
+            writeString(issue.getFileName());
+            writeInt(issue.getLineStart());
+            writeInt(issue.getLineEnd());
+            writeInt(issue.getColumnStart());
+            writeInt(issue.getColumnEnd());
+            writeLineRanges(issue.getLineRanges());
+            writeString(issue.getCategory());
+            writeString(issue.getType());
+            writeString(issue.getPackageName());
+            writeString(issue.getModuleName());
+            writeString(issue.getSeverity().getName());
+            writeString(issue.getMessage());
+            writeString(issue.getDescription());
+            writeString(issue.getOrigin());
+            writeString(issue.getOriginName());
+            writeString(issue.getReference());
+            writeString(issue.getFingerprint());
+            writeSerializable(issue.getAdditionalProperties());
+            writeUuid(issue.getId());
+        }
+
+        private void writeLineRanges(final Iterable<? extends LineRange> lineRanges) throws IOException {
+            List<LineRange> ranges = new ArrayList<>();
+            lineRanges.forEach(ranges::add);
+            writeInt(ranges.size());
+            for (LineRange range : ranges) {
+                writeInt(range.getStart());
+                writeInt(range.getEnd() - range.getStart());
+            }
+        }
+
+        private void writeSerializable(@CheckForNull final Serializable value) throws IOException {
+            if (value == null) {
+                writeInt(0);
+            }
+            else if (output instanceof ObjectOutput objects) {
+                writeInt(1); // the enclosing serialization stream writes the object
+                objects.writeObject(value);
+            }
+            else {
+                try (var bytes = new ByteArrayOutputStream(); var objects = new ObjectOutputStream(bytes)) {
+                    objects.writeObject(value);
+                    objects.flush();
+                    writeInt(bytes.size());
+                    output.write(bytes.toByteArray());
+                }
+            }
+        }
+
+        private void writeUuid(final UUID id) throws IOException {
+            output.writeLong(id.getMostSignificantBits());
+            output.writeLong(id.getLeastSignificantBits());
+        }
+    }
+
+    /**
+     * Reads the properties of reports and issues from the binary format.
+     */
+    static final class Decoder {
+        private final DataInput input;
+        private final List<String> dictionary = new ArrayList<>();
+        private TreeStringBuilder builder = new TreeStringBuilder();
+
+        Decoder(final DataInput input) {
+            this.input = input;
+        }
+
+        int readInt() throws IOException {
+            int result = 0;
+            for (int i = 0; i < MAX_VARINT_BYTES; i++) {
+                int current = input.readUnsignedByte();
+                result |= (current & 0x7F) << (7 * i);
+                if ((current & 0x80) == 0) {
+                    return (result >>> 1) ^ -(result & 1);
+                }
+            }
+            throw new StreamCorruptedException("Malformed variable length integer");
+        }
+
+        int readSize() throws IOException {
+            int size = readInt();
+            if (size < 0) {
+                throw new StreamCorruptedException("Negative size " + size);
+            }
+            return size;
+        }
+
+        String readString() throws IOException {
+            int index = readSize();
+            if (index == 0) {
+                var bytes = readBytes(readSize());
+                var value = new String(bytes, StandardCharsets.UTF_8);
+                if (dictionary.size() == MAX_DICTIONARY_SIZE) {
+                    clearDictionary();
+                }
+                dictionary.add(value);
+                return value;
+            }
+            if (index > dictionary.size()) {
+                throw new StreamCorruptedException("Invalid reference to string " + index);
+            }
+            return dictionary.get(index - 1);
+        }
+
+        List<String> readStrings() throws IOException {
+            int size = readSize();
+            List<String> values = new ArrayList<>(Math.min(size, MAX_PREALLOCATION));
+            for (int i = 0; i < size; i++) {
+                values.add(readString());
+            }
+            return values;
+        }
+
+        Map<String, Integer> readCounters() throws IOException {
+            int size = readSize();
+            Map<String, Integer> counters = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                counters.put(readString(), readInt());
+            }
+            return counters;
+        }
+
+        Map<Severity, Integer> readSeverityCounts() throws IOException {
+            int size = readSize();
+            Map<Severity, Integer> counts = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                counts.put(Severity.valueOf(readString()), readInt());
+            }
+            return counts;
+        }
+
+        Issue readIssue() throws IOException {
+            var path = readString();
+            var fileName = builder.intern(readString());
+            int lineStart = readInt();
+            int lineEnd = readInt();
+            int columnStart = readInt();
+            int columnEnd = readInt();
+            var lineRanges = readLineRanges();
+            var category = readString();
+            var type = readString();
+            var packageName = builder.intern(readString());
+            var moduleName = readString();
+            var severity = Severity.valueOf(readString());
+            var message = builder.intern(readString());
+            var description = readString();
+            var origin = readString();
+            var originName = readString();
+            var reference = readString();
+            var fingerprint = readString();
+            var additionalProperties = readSerializable();
+            var id = readUuid();
+
+            return new Issue(path, fileName,
+                    lineStart, lineEnd, columnStart, columnEnd,
+                    lineRanges, category, type, packageName, moduleName,
+                    severity, message, description,
+                    origin, originName, reference, fingerprint, additionalProperties, id);
+        }
+
+        private LineRangeList readLineRanges() throws IOException {
+            int size = readSize();
+            var ranges = new LineRangeList(Math.min(size, MAX_PREALLOCATION));
+            for (int i = 0; i < size; i++) {
+                int start = readInt();
+                ranges.add(new LineRange(start, start + readInt()));
+            }
+            return ranges;
+        }
+
+        /**
+         * Reads the specified number of bytes. The array is enlarged step by step while the input is read, so that a
+         * corrupt length does not allocate more memory than the input actually provides.
+         *
+         * @param length
+         *         the number of bytes to read
+         *
+         * @return the bytes
+         * @throws IOException
+         *         if the input ends before all bytes have been read
+         */
+        private byte[] readBytes(final int length) throws IOException {
+            var bytes = new byte[Math.min(length, MAX_PREALLOCATION)];
+            int read = 0;
+            while (true) {
+                input.readFully(bytes, read, bytes.length - read);
+                read = bytes.length;
+                if (read == length) {
+                    return bytes;
+                }
+                bytes = Arrays.copyOf(bytes, (int) Math.min(length, 2L * read));
+            }
+        }
+
+        @CheckForNull
+        @SuppressFBWarnings(value = "OBJECT_DESERIALIZATION", justification = "Classes are filtered by the enclosing stream or by the allow list")
+        @SuppressWarnings("BanSerializableRead")
+        private Serializable readSerializable() throws IOException {
+            int size = readSize();
+            if (size == 0) {
+                return null;
+            }
+            try {
+                if (input instanceof ObjectInput objects) {
+                    return (Serializable) objects.readObject(); // uses the class filters of the enclosing stream
+                }
+                return readFilteredSerializable(readBytes(size));
+            }
+            catch (ClassNotFoundException | ClassCastException exception) {
+                throw new InvalidObjectException("Can't read additional properties of issue: " + exception);
+            }
+        }
+
+        @SuppressFBWarnings(value = "OBJECT_DESERIALIZATION", justification = "Classes are filtered by the allow list")
+        @SuppressWarnings("BanSerializableRead")
+        private Serializable readFilteredSerializable(final byte[] bytes) throws IOException, ClassNotFoundException {
+            try (var objects = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+                objects.setObjectInputFilter(createFilter());
+                return (Serializable) objects.readObject();
+            }
+        }
+
+        private ObjectInputFilter createFilter() {
+            var serialFilter = ObjectInputFilter.Config.getSerialFilter();
+            if (serialFilter == null) {
+                return ObjectInputFilter.rejectUndecidedClass(ALLOWED_PROPERTIES);
+            }
+            return ObjectInputFilter.rejectUndecidedClass(ObjectInputFilter.merge(serialFilter, ALLOWED_PROPERTIES));
+        }
+
+        private UUID readUuid() throws IOException {
+            return new UUID(input.readLong(), input.readLong());
+        }
+
+        /**
+         * Clears the dictionary and starts a new builder for the interned strings, so that the strings of the previous
+         * issues are not retained anymore.
+         */
+        private void clearDictionary() {
+            dictionary.clear();
+            builder.dedup();
+            builder = new TreeStringBuilder();
+        }
+
+        void dedup() {
+            builder.dedup();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package edu.hm.hafner.analysis;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * Index of all issues of a {@link Report} and its sub-reports. Provides constant time access to the issues by their
+ * position and by their ID. Additionally, the index is used to find duplicates with a single hash lookup, no matter
+ * how many sub-reports have been aggregated. An index is bound to a specific modification count of the indexed report:
+ * if the report or one of its sub-reports is modified afterward, the index needs to be updated or rebuilt. This class
+ * is not thread-safe, see {@link Report}.
+ *
+ * @author Ullrich Hafner
+ */
+class ReportIndex {
+    private final Map<UUID, Issue> issuesById = new HashMap<>();
+    private final Map<UUID, Report> reportsById = new HashMap<>();
+    private final Set<Issue> issues = new HashSet<>();
+    @CheckForNull
+    private List<Issue> positions;
+    private boolean hasDuplicateIds;
+    private boolean hasDuplicateIssues;
+    private long modificationCount;
+
+    ReportIndex(final long modificationCount) {
+        this.modificationCount = modificationCount;
+    }
+
+    long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Marks this index as up-to-date with the specified modification count of the indexed report.
+     *
+     * @param modificationCount
+     *         the modification count of the indexed report
+     */
+    void setModificationCount(final long modificationCount) {
+        this.modificationCount = modificationCount;
+    }
+
+    /**
+     * Adds the specified issue to the index. Issues are expected to be added in the iteration order of the report.
+     *
+     * @param issue
+     *         the issue to add
+     * @param owner
+     *         the (sub-)report that contains the issue
+     */
+    void add(final Issue issue, final Report owner) {
+        if (!issues.add(issue)) {
+            hasDuplicateIssues = true; // reports that have been aggregated using the constructor are not checked
+        }
+        var id = issue.getId();
+        if (issuesById.containsKey(id)) {
+            hasDuplicateIds = true; // keep the first issue, it is the first one in iteration order
+        }
+        else {
+            issuesById.put(id, issue);
+            reportsById.put(id, owner);
+        }
+        positions = null;
+    }
+
+    /**
+     * Removes the issue with the specified ID from the index.
+     *
+     * @param id
+     *         the ID of the issue
+     *
+     * @return {@code true} if the index is still valid, {@code false} if the index needs to be rebuilt since another
+     *         issue with the same ID or an equal issue now needs to be visible
+     */
+    boolean remove(final UUID id) {
+        var removed = issuesById.remove(id);
+        if (removed != null) {
+            issues.remove(removed);
+        }
+        reportsById.remove(id);
+        positions = null;
+
+        return !hasDuplicateIds && !hasDuplicateIssues;
+    }
+
+    /**
+     * Returns whether the index contains an issue that is equal to the specified issue.
+     *
+     * @param issue
+     *         the issue to look for
+     *
+     * @return {@code true} if there is an equal issue, {@code false} otherwise
+     */
+    boolean contains(final Issue issue) {
+        return issues.contains(issue);
+    }
+
+    Optional<Issue> findIssue(final UUID id) {
+        return Optional.ofNullable(issuesById.get(id));
+    }
+
+    Optional<Report> findReport(final UUID id) {
+        return Optional.ofNullable(reportsById.get(id));
+    }
+
+    boolean hasPositions() {
+        return positions != null;
+    }
+
+    void setPositions(final List<Issue> issues) {
+        positions = new ArrayList<>(issues);
+    }
+
+    @SuppressWarnings("NullAway")
+    Issue get(final int index) {
+        return positions.get(index);
+    }
+}
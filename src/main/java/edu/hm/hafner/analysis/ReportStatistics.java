@@ -0,0 +1,199 @@
+package edu.hm.hafner.analysis;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Summary of the issues of a {@link Report}: provides the number of issues per severity, the distinct values of the
+ * most important properties, and the number of issues for each of these values. All values are computed in a single
+ * pass over the issues. Instances of this class are immutable and will not reflect changes of the issues afterward.
+ *
+ * @author Ullrich Hafner
+ * @see Report#getStatistics()
+ */
+public final class ReportStatistics {
+    private final int size;
+    private final Map<Severity, Integer> countsBySeverity = new HashMap<>();
+    private final Map<String, Integer> countsByModule = new HashMap<>();
+    private final Map<String, Integer> countsByPackage = new HashMap<>();
+    private final Map<String, Integer> countsByFile = new HashMap<>();
+    private final Map<String, Integer> countsByCategory = new HashMap<>();
+    private final Map<String, Integer> countsByType = new HashMap<>();
+    private final Map<String, Integer> countsByTool = new HashMap<>();
+
+    /**
+     * Creates the statistics for the specified issues.
+     *
+     * @param issues
+     *         the issues to summarize
+     */
+    public ReportStatistics(final Iterable<? extends Issue> issues) {
+        int count = 0;
+        for (Issue issue : issues) {
+            count++;
+            countsBySeverity.merge(issue.getSeverity(), 1, Integer::sum);
+            countsByModule.merge(issue.getModuleName(), 1, Integer::sum);
+            countsByPackage.merge(issue.getPackageName(), 1, Integer::sum);
+            countsByFile.merge(issue.getFileName(), 1, Integer::sum);
+            countsByCategory.merge(issue.getCategory(), 1, Integer::sum);
+            countsByType.merge(issue.getType(), 1, Integer::sum);
+            countsByTool.merge(issue.getOrigin(), 1, Integer::sum);
+        }
+        size = count;
+    }
+
+    /**
+     * Returns the total number of issues.
+     *
+     * @return the number of issues
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the number of issues with the specified {@link Severity}.
+     *
+     * @param severity
+     *         the severity of the issues
+     *
+     * @return the number of issues with the specified severity
+     */
+    public int getSizeOf(final Severity severity) {
+        return countsBySeverity.getOrDefault(severity, 0);
+    }
+
+    /**
+     * Returns the severities of all issues.
+     *
+     * @return the severities
+     */
+    public Set<Severity> getSeverities() {
+        return Collections.unmodifiableSet(countsBySeverity.keySet());
+    }
+
+    /**
+     * Returns the affected modules of all issues.
+     *
+     * @return the affected modules
+     * @see Issue#getModuleName()
+     */
+    public Set<String> getModules() {
+        return Collections.unmodifiableSet(countsByModule.keySet());
+    }
+
+    /**
+     * Returns the affected packages of all issues.
+     *
+     * @return the affected packages
+     * @see Issue#getPackageName()
+     */
+    public Set<String> getPackages() {
+        return Collections.unmodifiableSet(countsByPackage.keySet());
+    }
+
+    /**
+     * Returns the affected files of all issues.
+     *
+     * @return the affected files
+     * @see Issue#getFileName()
+     */
+    public Set<String> getFiles() {
+        return Collections.unmodifiableSet(countsByFile.keySet());
+    }
+
+    /**
+     * Returns the categories of all issues.
+     *
+     * @return the categories
+     * @see Issue#getCategory()
+     */
+    public Set<String> getCategories() {
+        return Collections.unmodifiableSet(countsByCategory.keySet());
+    }
+
+    /**
+     * Returns the types of all issues.
+     *
+     * @return the types
+     * @see Issue#getType()
+     */
+    public Set<String> getTypes() {
+        return Collections.unmodifiableSet(countsByType.keySet());
+    }
+
+    /**
+     * Returns the IDs of the tools that did report the issues.
+     *
+     * @return the tools
+     * @see Issue#getOrigin()
+     */
+    public Set<String> getTools() {
+        return Collections.unmodifiableSet(countsByTool.keySet());
+    }
+
+    /**
+     * Returns the number of issues for each severity.
+     *
+     * @return a mapping of: severity to the number of issues with that severity
+     */
+    public Map<Severity, Integer> getCountsBySeverity() {
+        return Collections.unmodifiableMap(countsBySeverity);
+    }
+
+    /**
+     * Returns the number of issues for each module.
+     *
+     * @return a mapping of: module name to the number of issues in that module
+     */
+    public Map<String, Integer> getCountsByModule() {
+        return Collections.unmodifiableMap(countsByModule);
+    }
+
+    /**
+     * Returns the number of issues for each package.
+     *
+     * @return a mapping of: package name to the number of issues in that package
+     */
+    public Map<String, Integer> getCountsByPackage() {
+        return Collections.unmodifiableMap(countsByPackage);
+    }
+
+    /**
+     * Returns the number of issues for each file.
+     *
+     * @return a mapping of: file name to the number of issues in that file
+     */
+    public Map<String, Integer> getCountsByFile() {
+        return Collections.unmodifiableMap(countsByFile);
+    }
+
+    /**
+     * Returns the number of issues for each category.
+     *
+     * @return a mapping of: category to the number of issues with that category
+     */
+    public Map<String, Integer> getCountsByCategory() {
+        return Collections.unmodifiableMap(countsByCategory);
+    }
+
+    /**
+     * Returns the number of issues for each type.
+     *
+     * @return a mapping of: type to the number of issues with that type
+     */
+    public Map<String, Integer> getCountsByType() {
+        return Collections.unmodifiableMap(countsByType);
+    }
+
+    /**
+     * Returns the number of issues for each tool.
+     *
+     * @return a mapping of: tool ID to the number of issues reported by that tool
+     */
+    public Map<String, Integer> getCountsByTool() {
+        return Collections.unmodifiableMap(countsByTool);
+    }
+}
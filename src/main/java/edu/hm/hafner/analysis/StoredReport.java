@@ -0,0 +1,303 @@
+package edu.hm.hafner.analysis;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A read-only view of a {@link Report} that has been stored in a file using the binary format of {@link ReportCodec}.
+ * The summary of the report (the ID, the name, the total number of issues and the number of issues per severity) is
+ * read when the view is created. The issues are decoded one by one while iterating, the iterator does not keep the
+ * decoded issues. Besides a read buffer, an iterator only retains the dictionary of the binary format, whose size is
+ * bounded by {@link ReportCodec#MAX_DICTIONARY_SIZE} strings. So this view is suitable to evaluate the stored reports
+ * of many builds without materializing all issues on the heap.
+ *
+ * <p>
+ * The file is read in chunks using positional reads of a {@link FileChannel}. The file is opened for each chunk and
+ * closed immediately afterward, so that no file handle is kept open (and the file is not locked on Windows) while
+ * the view or an iterator is in use. The file must not be modified while the view is in use.
+ * </p>
+ *
+ * <p>
+ * This view is not a {@link Report}: a report is a mutable container that holds its issues in a set and provides
+ * positional and ID based access. A view that decodes the issues on demand can provide none of these without
+ * materializing all issues. Use {@link #toReport()} to create a report that contains all stored issues.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+public final class StoredReport implements Iterable<Issue> {
+    private final Path file;
+    private final int size;
+    private final Map<Severity, Integer> countsBySeverity;
+    private final String id;
+    private final String name;
+
+    /**
+     * Creates a view of the specified file and reads the summary of the stored report.
+     *
+     * @param file
+     *         the file that contains a report in the binary format of {@link ReportCodec}
+     *
+     * @throws IOException
+     *         if the file can't be read or does not contain a report in the binary format
+     */
+    public StoredReport(final Path file) throws IOException {
+        this.file = file;
+
+        var decoder = createDecoder();
+        size = decoder.readSize();
+        countsBySeverity = decoder.readSeverityCounts();
+
+        var properties = new Report();
+        properties.decodeProperties(decoder);
+        id = properties.getId();
+        name = properties.getName();
+    }
+
+    private ReportCodec.Decoder createDecoder() throws IOException {
+        var input = new DataInputStream(new FileChunkInputStream(file));
+        if (input.readInt() != ReportCodec.MAGIC) {
+            throw new StreamCorruptedException("The file does not contain a report in the binary format");
+        }
+        return new ReportCodec().readHeader(input);
+    }
+
+    /**
+     * Returns the ID of the stored report.
+     *
+     * @return the ID
+     * @see Report#getId()
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Returns the name of the stored report.
+     *
+     * @return the name
+     * @see Report#getName()
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the total number of issues in the stored report (including the issues of all sub-reports).
+     *
+     * @return total number of issues
+     * @see Report#size()
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether the stored report is empty.
+     *
+     * @return {@code true} if the report is empty, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of issues with the specified {@link Severity}.
+     *
+     * @param severity
+     *         the severity of the issues
+     *
+     * @return total number of issues
+     * @see Report#getSizeOf(Severity)
+     */
+    public int getSizeOf(final Severity severity) {
+        return countsBySeverity.getOrDefault(severity, 0);
+    }
+
+    /**
+     * Returns the severities of all issues in the stored report.
+     *
+     * @return the severities
+     * @see Report#getSeverities()
+     */
+    public Set<Severity> getSeverities() {
+        return Collections.unmodifiableSet(countsBySeverity.keySet());
+    }
+
+    /**
+     * Returns an iterator that decodes the issues of the stored report on demand. The issues are returned in the same
+     * order as by the iterator of the stored {@link Report}.
+     *
+     * @return an iterator over the issues
+     */
+    @Override
+    public Iterator<Issue> iterator() {
+        try {
+            return new IssueIterator(createDecoder());
+        }
+        catch (IOException exception) {
+            throw new IllegalStateException("Can't read report " + id, exception);
+        }
+    }
+
+    /**
+     * Creates a new sequential {@code Stream} of the issues that are decoded on demand.
+     *
+     * @return a new {@code Stream}
+     */
+    public Stream<Issue> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Decodes the whole stored report, including all issues and sub-reports.
+     *
+     * @return the report
+     */
+    public Report toReport() {
+        try {
+            var report = new Report();
+            var decoder = createDecoder();
+            decoder.readSize();
+            decoder.readSeverityCounts();
+            report.decode(decoder);
+            decoder.dedup();
+            return report;
+        }
+        catch (IOException exception) {
+            throw new IllegalStateException("Can't read report " + id, exception);
+        }
+    }
+
+    /**
+     * Decodes the issues of a report and its sub-reports in the order of the binary format: the properties of a
+     * report, its issues, and then its sub-reports.
+     */
+    private static final class IssueIterator implements Iterator<Issue> {
+        private final ReportCodec.Decoder decoder;
+        private final Deque<Integer> remainingSubReports = new ArrayDeque<>();
+        private int remainingIssues;
+        private boolean hasSubReportCount;
+
+        IssueIterator(final ReportCodec.Decoder decoder) throws IOException {
+            this.decoder = decoder;
+
+            decoder.readSize();
+            decoder.readSeverityCounts();
+            startReport();
+        }
+
+        private void startReport() throws IOException {
+            new Report().decodeProperties(decoder);
+            remainingIssues = decoder.readSize();
+            hasSubReportCount = false;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                while (remainingIssues == 0) {
+                    if (!hasSubReportCount) {
+                        remainingSubReports.push(decoder.readSize());
+                        hasSubReportCount = true;
+                    }
+                    if (remainingSubReports.isEmpty()) {
+                        return false;
+                    }
+                    int subReports = remainingSubReports.pop();
+                    if (subReports > 0) {
+                        remainingSubReports.push(subReports - 1);
+                        startReport();
+                    }
+                }
+                return true;
+            }
+            catch (IOException exception) {
+                throw new IllegalStateException("Can't read the issues of the report", exception);
+            }
+        }
+
+        @Override
+        public Issue next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more issues available");
+            }
+            try {
+                remainingIssues--;
+                return decoder.readIssue();
+            }
+            catch (IOException exception) {
+                throw new IllegalStateException("Can't read the issues of the report", exception);
+            }
+        }
+    }
+
+    /**
+     * Reads the content of a file in chunks. The file is opened for each chunk only.
+     */
+    private static final class FileChunkInputStream extends InputStream {
+        private static final int CHUNK_SIZE = 64 * 1024;
+
+        private final Path file;
+        private final ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE).limit(0);
+        private long position;
+
+        FileChunkInputStream(final Path file) {
+            super();
+
+            this.file = file;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (fill()) {
+                return buffer.get() & 0xFF;
+            }
+            return -1;
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (!fill()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        private boolean fill() throws IOException {
+            if (buffer.hasRemaining()) {
+                return true;
+            }
+            buffer.clear();
+            try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                int count = channel.read(buffer, position);
+                buffer.flip();
+                if (count <= 0) {
+                    return false;
+                }
+                position += count;
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package edu.hm.hafner.analysis;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Classifies the issues of two consecutive static analysis runs for the same software artifact as new, outstanding,
+ * fixed, or new in changed code. In contrast to {@link IssueDifference}, the classified issues are not collected in
+ * reports: each issue is passed to a {@link DifferenceListener} as soon as its classification has been resolved. So
+ * besides the index of the reference issues, only one bit per current issue is kept in memory. The current issues can
+ * be provided by any {@link Iterable} with a stable iteration order, e.g. a {@link StoredReport}.
+ *
+ * <p>
+ * The classification is the same as the one of {@link IssueDifference}: the current issues are iterated twice, the
+ * first pass matches current issues with equal reference issues, the second pass matches the remaining current issues
+ * with reference issues that have the same fingerprint. The outstanding issues of the first pass are reported during
+ * the first pass, the outstanding issues of the second pass and the new issues are reported during the second pass.
+ * Finally, the fixed issues are reported in the order of the reference issues.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+public class StreamingIssueDifference {
+    private final String referenceId;
+    private final Map<String, Integer> includes;
+    private final Map<String, List<Integer>> changedLinesByFileName = new HashMap<>();
+
+    /**
+     * Creates a new instance of {@link StreamingIssueDifference}.
+     *
+     * @param referenceId
+     *         ID identifying the reference report
+     */
+    public StreamingIssueDifference(final String referenceId) {
+        this(referenceId, Map.of());
+    }
+
+    /**
+     * Creates a new instance of {@link StreamingIssueDifference}.
+     *
+     * @param referenceId
+     *         ID identifying the reference report
+     * @param includes
+     *         A mapping of files to changed lines. Using this mapping, we can identify which new issues are part
+     *         of the changes and which issues are indirectly caused by the changes.
+     */
+    public StreamingIssueDifference(final String referenceId, final Map<String, Integer> includes) {
+        this.referenceId = referenceId;
+        this.includes = Map.copyOf(includes);
+    }
+
+    /**
+     * Classifies the current issues and the reference issues and passes each issue to the specified listener. The
+     * current issues are iterated twice, the reference issues are iterated once.
+     *
+     * @param currentIssues
+     *         the issues of the current report
+     * @param referenceIssues
+     *         the issues of a previous report (reference)
+     * @param listener
+     *         the listener that will be notified about each classified issue
+     */
+    public void compute(final Iterable<? extends Issue> currentIssues, final Iterable<? extends Issue> referenceIssues,
+            final DifferenceListener listener) {
+        var references = new ReferenceIndex(referenceIssues);
+
+        var matched = new BitSet();
+        int position = 0;
+        for (Issue current : currentIssues) {
+            var reference = references.matchByEquals(current);
+            if (reference != null) {
+                matched.set(position);
+                reportOutstanding(current, reference, listener);
+            }
+            position++;
+        }
+
+        position = 0;
+        for (Issue current : currentIssues) {
+            if (!matched.get(position)) {
+                var reference = references.matchByFingerprint(current);
+                if (reference == null) {
+                    reportNew(current, listener);
+                }
+                else {
+                    reportOutstanding(current, reference, listener);
+                }
+            }
+            position++;
+        }
+
+        references.forEachUnmatched(listener::fixedIssue);
+    }
+
+    private void reportOutstanding(final Issue current, final Issue reference, final DifferenceListener listener) {
+        current.setReference(reference.getReference());
+        listener.outstandingIssue(current);
+    }
+
+    private void reportNew(final Issue current, final DifferenceListener listener) {
+        current.setReference(referenceId);
+        if (isInChangedCode(current)) {
+            listener.newIssueInChangedCode(current);
+        }
+        else {
+            listener.newIssue(current);
+        }
+    }
+
+    private boolean isInChangedCode(final Issue issue) {
+        if (includes.isEmpty()) {
+            return false;
+        }
+        for (int line : changedLinesByFileName.computeIfAbsent(issue.getFileName(), this::findChangedLines)) {
+            if (issue.affectsLine(line)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<Integer> findChangedLines(final String fileName) {
+        List<Integer> lines = new ArrayList<>();
+        for (Entry<String, Integer> include : includes.entrySet()) {
+            if (fileName.endsWith(include.getKey())) {
+                lines.add(include.getValue());
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Receives the issues that have been classified by a {@link StreamingIssueDifference}.
+     */
+    public interface DifferenceListener {
+        /**
+         * Called for an issue of the current report that is not part of the reference report. If the difference is
+         * computed for a specific set of changed files, then this method is called only for the new issues that are
+         * not part of the changes.
+         *
+         * @param issue
+         *         the new issue
+         */
+        void newIssue(Issue issue);
+
+        /**
+         * Called for an issue of the current report that affects one of the changed lines. The default implementation
+         * passes the issue to {@link #newIssue(Issue)}.
+         *
+         * @param issue
+         *         the new issue in changed code
+         */
+        default void newIssueInChangedCode(final Issue issue) {
+            newIssue(issue);
+        }
+
+        /**
+         * Called for an issue of the reference report that is still part of the current report.
+         *
+         * @param issue
+         *         the outstanding issue (with the latest properties of the current report)
+         */
+        void outstandingIssue(Issue issue);
+
+        /**
+         * Called for an issue of the reference report that is not part of the current report anymore.
+         *
+         * @param issue
+         *         the fixed issue
+         */
+        void fixedIssue(Issue issue);
+    }
+}
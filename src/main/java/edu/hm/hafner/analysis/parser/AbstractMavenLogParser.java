@@ -44,6 +44,11 @@ public abstract class AbstractMavenLogParser extends LookaheadParser {
         super(pattern);
     }
 
+    @Override
+    protected boolean isPrefilterSupported() {
+        return false; // the goal and module need to be tracked for every line
+    }
+
     @Override
     protected void preprocessLine(final String line) {
         var goalMatcher = MAVEN_PLUGIN_START.matcher(line);
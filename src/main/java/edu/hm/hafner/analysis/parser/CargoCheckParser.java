@@ -72,7 +72,7 @@ public class CargoCheckParser extends IssueParser {
     public Report parseReport(final ReaderFactory readerFactory) throws ParsingException, ParsingCanceledException {
         var report = new Report();
 
-        try (Stream<String> lines = readerFactory.readStream(); var issueBuilder = new IssueBuilder()) {
+        try (Stream<String> lines = readerFactory.readStructuredStream(); var issueBuilder = new IssueBuilder()) {
             lines.map(line -> (JSONObject) new JSONTokener(line).nextValue())
                     .map(object -> extractIssue(object, issueBuilder))
                     .flatMap(Optional::stream)
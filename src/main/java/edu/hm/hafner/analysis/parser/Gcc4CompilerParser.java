@@ -41,6 +41,11 @@ public class Gcc4CompilerParser extends LookaheadParser {
         super(pattern);
     }
 
+    @Override
+    protected boolean isSplittable() {
+        return true;
+    }
+
     @Override
     protected boolean isLineInteresting(final String line) {
         return (line.contains("arning") || line.contains("rror")) && !line.contains("[javac]");
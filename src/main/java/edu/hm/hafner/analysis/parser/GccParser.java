@@ -35,6 +35,11 @@ public class GccParser extends LookaheadParser {
         super(GCC_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean isSplittable() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final LookaheadStream lookahead,
             final IssueBuilder builder) {
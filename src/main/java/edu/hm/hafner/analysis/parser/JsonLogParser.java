@@ -29,7 +29,7 @@ public class JsonLogParser extends JsonBaseParser {
 
     @Override
     public Report parseReport(final ReaderFactory readerFactory) throws ParsingException {
-        try (Stream<String> lines = readerFactory.readStream()) {
+        try (Stream<String> lines = readerFactory.readStructuredStream()) {
             var report = new Report();
             lines.map(String::trim)
                     .filter(line -> !line.isEmpty())
@@ -50,6 +50,11 @@ public class MsBuildParser extends LookaheadParser {
         super(MS_BUILD_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean isSplittable() {
+        return true;
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final LookaheadStream lookahead,
             final IssueBuilder builder) {
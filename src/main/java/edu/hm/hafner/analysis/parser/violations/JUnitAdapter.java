@@ -46,7 +46,7 @@ public class JUnitAdapter extends AbstractViolationAdapter {
     }
 
     private int count(final ReaderFactory readerFactory, final String text) {
-        try (Stream<String> lines = readerFactory.readStream()) {
+        try (Stream<String> lines = readerFactory.readStructuredStream()) {
             return Math.toIntExact(lines
                     .filter(line -> line.contains(text))
                     .count());
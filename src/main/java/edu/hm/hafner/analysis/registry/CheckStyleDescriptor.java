@@ -15,7 +15,7 @@ class CheckStyleDescriptor extends ParserDescriptor {
     private static final String ID = "checkstyle";
     private static final String NAME = "CheckStyle";
 
-    private final Deferred<CheckStyleRules> messages = new Deferred<>(CheckStyleRules::new);
+    private static final Deferred<CheckStyleRules> MESSAGES = new Deferred<>(CheckStyleRules::new);
 
     CheckStyleDescriptor() {
         super(ID, NAME);
@@ -43,6 +43,6 @@ class CheckStyleDescriptor extends ParserDescriptor {
 
     @Override
     public String getDescription(final Issue issue) {
-        return messages.get().getDescription(issue.getType());
+        return MESSAGES.get().getDescription(issue.getType());
     }
 }
@@ -20,7 +20,7 @@ class FindBugsDescriptor extends ParserDescriptor {
     /** Key to define minimum number of duplicate lines for high priority warnings. */
     public static final String PRIORITY_OPTION_KEY = "SPOT_BUGS_CONFIDENCE";
 
-    private final Deferred<FindBugsMessages> messages = new Deferred<>(FindBugsMessages::new);
+    private static final Deferred<FindBugsMessages> MESSAGES = new Deferred<>(FindBugsMessages::new);
 
     FindBugsDescriptor() {
         super(ID, NAME);
@@ -48,7 +48,7 @@ class FindBugsDescriptor extends ParserDescriptor {
 
     @Override
     public String getDescription(final Issue issue) {
-        return messages.get().getMessage(issue.getType());
+        return MESSAGES.get().getMessage(issue.getType());
     }
 
     @Override
@@ -6,14 +6,16 @@ import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
-import java.util.function.Function;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
@@ -26,7 +28,8 @@ import j2html.tags.DomContent;
 import static j2html.TagCreator.*;
 
 /**
- * Provides a registry for all available {@link IssueParser parsers}.
+ * Provides a registry for all available {@link IssueParser parsers}. The descriptors of the parsers are created on
+ * demand when requested for the first time and are shared by all registry instances.
  *
  * @author Lorenz Munsch
  */
@@ -34,158 +37,174 @@ import static j2html.TagCreator.*;
 public class ParserRegistry {
     private static final String BULB_EMOJI = ":bulb:";
 
-    private static final ParserDescriptor[] ALL_DESCRIPTORS = {
-            new AcuCobolDescriptor(),
-            new AjcDescriptor(),
-            new AndroidLintDescriptor(),
-            new AnsibleLintDescriptor(),
-            new AnsibleLaterDescriptor(),
-            new AquaScannerDescriptor(),
-            new ArmccCompilerDescriptor(),
-            new BanditDescriptor(),
-            new BluePearlDescriptor(),
-            new BrakemanDescriptor(),
-            new BuckminsterDescriptor(),
-            new CadenceIncisiveDescriptor(),
-            new CargoDescriptor(),
-            new CargoClippyDescriptor(),
-            new CcmDescriptor(),
-            new CheckStyleDescriptor(),
-            new ClairDescriptor(),
-            new ClangAnalyzerDescriptor(),
-            new ClangDescriptor(),
-            new ClangTidyDescriptor(),
-            new CmakeDescriptor(),
-            new CodeAnalysisDescriptor(),
-            new CodeCheckerDescriptor(),
-            new CodeClimateDescriptor(),
-            new CodeGeneratorDescriptor(),
-            new CodeNarcDescriptor(),
-            new CoolfluxChessccDescriptor(),
-            new CoverityDescriptor(),
-            new CpdDescriptor(),
-            new CppCheckDescriptor(),
-            new CppLintDescriptor(),
-            new CrossCoreEmbeddedStudioDescriptor(),
-            new CssLintDescriptor(),
-            new DartAnalyzeDescriptor(),
-            new DetektDescriptor(),
-            new DiabCDescriptor(),
-            new DocFxDescriptor(),
-            new DockerLintDescriptor(),
-            new DoxygenDescriptor(),
-            new DrMemoryDescriptor(),
-            new DScannerDescriptor(),
-            new DupfinderDescriptor(),
-            new EclipseDescriptor(),
-            new EmbeddedEngineerDescriptor(),
-            new ErlcDescriptor(),
-            new ErrorProneDescriptor(),
-            new EsLintDescriptor(),
-            new FindBugsDescriptor(),
-            new Flake8Descriptor(),
-            new FlawfinderDescriptor(),
-            new FlexSdkDescriptor(),
-            new FlowDescriptor(),
-            new FoodCriticDescriptor(),
-            new FxcopDescriptor(),
-            new Gcc4Descriptor(),
-            new GccDescriptor(),
-            new GendarmeDescriptor(),
-            new GhsMultiDescriptor(),
-            new GnatDescriptor(),
-            new GnuFortranDescriptor(),
-            new GoLintDescriptor(),
-            new GoVetDescriptor(),
-            new GrypeDescriptor(),
-            new HadoLintDescriptor(),
-            new IarCstatDescriptor(),
-            new IarDescriptor(),
-            new IbLinterDescriptor(),
-            new IdeaInspectionDescriptor(),
-            new InferDescriptor(),
-            new IntelDescriptor(),
-            new InvalidsDescriptor(),
-            new JavaDescriptor(),
-            new JavaDocDescriptor(),
-            new JcreportDescriptor(),
-            new JsHintDescriptor(),
-            new JsLintDescriptor(),
-            new JUnitDescriptor(),
-            new KlocWorkDescriptor(),
-            new KotlinDescriptor(),
-            new KtLintDescriptor(),
-            new MavenConsoleDescriptor(),
-            new MentorGraphicsDescriptor(),
-            new MetrowerksCodeWarriorDescriptor(),
-            new MsBuildDescriptor(),
-            new MyPyDescriptor(),
-            new NagFortranDescriptor(),
-            new NativeFormatDescriptor(),
-            new OeLintAdvDescriptor(),
-            new OtDockerLintDescriptor(),
-            new OwaspDependencyCheckDescriptor(),
-            new PcLintDescriptor(),
-            new Pep8Descriptor(),
-            new PerforceDescriptor(),
-            new PerlCriticDescriptor(),
-            new PhpCodeSnifferDescriptor(),
-            new PhpDescriptor(),
-            new PhpStanDescriptor(),
-            new PitDescriptor(),
-            new PmdDescriptor(),
-            new PnpmAuditDescriptor(),
-            new PolyspaceDescriptor(),
-            new PreFastDescriptor(),
-            new ProtoLintDescriptor(),
-            new PuppetLintDescriptor(),
-            new PvsStudioDescriptor(),
-            new PyDocStyleDescriptor(),
-            new PyLintDescriptor(),
-            new QacSourceCodeAnalyserDescriptor(),
-            new QtTranslationDescriptor(),
-            new ResharperDescriptor(),
-            new RevApiDescriptor(),
-            new RfLintDescriptor(),
-            new RoboCopyDescriptor(),
-            new RuboCopDescriptor(),
-            new SarifDescriptor(),
-            new ScalaDescriptor(),
-            new SemgrepDescriptor(),
-            new SimianDescriptor(),
-            new SimulinkCheckDescriptor(),
-            new SonarQubeDescriptor(),
-            new SphinxBuildDescriptor(),
-            new SpotBugsDescriptor(),
-            new StyleCopDescriptor(),
-            new StyleLintDescriptor(),
-            new SunCDescriptor(),
-            new SwiftLintDescriptor(),
-            new TaglistDescriptor(),
-            new TaskingVxCompilerDescriptor(),
-            new TiCcsDescriptor(),
-            new TnsdlDescriptor(),
-            new TrivyDescriptor(),
-            new TsLintDescriptor(),
-            new ValeDescriptor(),
-            new ValgrindDescriptor(),
-            new VeraCodePipelineScannerDescriptor(),
-            new XlcDescriptor(),
-            new YamlLintDescriptor(),
-            new YoctoScannerDescriptor(),
-            new XmlLintDescriptor(),
-            new YuiCompressorDescriptor(),
-            new ZptLintDescriptor()
-    };
+    /**
+     * Factories for all available descriptors, indexed by the ID of the parser. The order of the entries is the order
+     * of the declaration.
+     */
+    private static final Map<String, Supplier<ParserDescriptor>> ALL_DESCRIPTORS = createFactories(
+            Map.entry("acu-cobol", () -> new AcuCobolDescriptor()),
+            Map.entry("aspectj", () -> new AjcDescriptor()),
+            Map.entry("android-lint", () -> new AndroidLintDescriptor()),
+            Map.entry("ansiblelint", () -> new AnsibleLintDescriptor()),
+            Map.entry("ansible-later", () -> new AnsibleLaterDescriptor()),
+            Map.entry("scannercli", () -> new AquaScannerDescriptor()),
+            Map.entry("armcc", () -> new ArmccCompilerDescriptor()),
+            Map.entry("bandit", () -> new BanditDescriptor()),
+            Map.entry("bluepearl", () -> new BluePearlDescriptor()),
+            Map.entry("brakeman", () -> new BrakemanDescriptor()),
+            Map.entry("buckminster", () -> new BuckminsterDescriptor()),
+            Map.entry("cadence", () -> new CadenceIncisiveDescriptor()),
+            Map.entry("cargo", () -> new CargoDescriptor()),
+            Map.entry("clippy", () -> new CargoClippyDescriptor()),
+            Map.entry("ccm", () -> new CcmDescriptor()),
+            Map.entry("checkstyle", () -> new CheckStyleDescriptor()),
+            Map.entry("clair", () -> new ClairDescriptor()),
+            Map.entry("clang-analyzer", () -> new ClangAnalyzerDescriptor()),
+            Map.entry("clang", () -> new ClangDescriptor()),
+            Map.entry("clang-tidy", () -> new ClangTidyDescriptor()),
+            Map.entry("cmake", () -> new CmakeDescriptor()),
+            Map.entry("code-analysis", () -> new CodeAnalysisDescriptor()),
+            Map.entry("code-checker", () -> new CodeCheckerDescriptor()),
+            Map.entry("code-climate", () -> new CodeClimateDescriptor()),
+            Map.entry("code-generator", () -> new CodeGeneratorDescriptor()),
+            Map.entry("codenarc", () -> new CodeNarcDescriptor()),
+            Map.entry("coolflux", () -> new CoolfluxChessccDescriptor()),
+            Map.entry("coverity", () -> new CoverityDescriptor()),
+            Map.entry("cpd", () -> new CpdDescriptor()),
+            Map.entry("cppcheck", () -> new CppCheckDescriptor()),
+            Map.entry("cpplint", () -> new CppLintDescriptor()),
+            Map.entry("crosscore-embedded-studio", () -> new CrossCoreEmbeddedStudioDescriptor()),
+            Map.entry("csslint", () -> new CssLintDescriptor()),
+            Map.entry("dart", () -> new DartAnalyzeDescriptor()),
+            Map.entry("detekt", () -> new DetektDescriptor()),
+            Map.entry("diabc", () -> new DiabCDescriptor()),
+            Map.entry("docfx", () -> new DocFxDescriptor()),
+            Map.entry("dockerlint", () -> new DockerLintDescriptor()),
+            Map.entry("doxygen", () -> new DoxygenDescriptor()),
+            Map.entry("dr-memory", () -> new DrMemoryDescriptor()),
+            Map.entry("dscanner", () -> new DScannerDescriptor()),
+            Map.entry("dupfinder", () -> new DupfinderDescriptor()),
+            Map.entry("eclipse", () -> new EclipseDescriptor()),
+            Map.entry("embedded-engineer", () -> new EmbeddedEngineerDescriptor()),
+            Map.entry("erlc", () -> new ErlcDescriptor()),
+            Map.entry("error-prone", () -> new ErrorProneDescriptor()),
+            Map.entry("eslint", () -> new EsLintDescriptor()),
+            Map.entry("findbugs", () -> new FindBugsDescriptor()),
+            Map.entry("flake8", () -> new Flake8Descriptor()),
+            Map.entry("flawfinder", () -> new FlawfinderDescriptor()),
+            Map.entry("flex", () -> new FlexSdkDescriptor()),
+            Map.entry("flow", () -> new FlowDescriptor()),
+            Map.entry("foodcritic", () -> new FoodCriticDescriptor()),
+            Map.entry("fxcop", () -> new FxcopDescriptor()),
+            Map.entry("gcc", () -> new Gcc4Descriptor()),
+            Map.entry("gcc3", () -> new GccDescriptor()),
+            Map.entry("gendarme", () -> new GendarmeDescriptor()),
+            Map.entry("ghs-multi", () -> new GhsMultiDescriptor()),
+            Map.entry("gnat", () -> new GnatDescriptor()),
+            Map.entry("fortran", () -> new GnuFortranDescriptor()),
+            Map.entry("golint", () -> new GoLintDescriptor()),
+            Map.entry("go-vet", () -> new GoVetDescriptor()),
+            Map.entry("grype", () -> new GrypeDescriptor()),
+            Map.entry("hadolint", () -> new HadoLintDescriptor()),
+            Map.entry("iar-cstat", () -> new IarCstatDescriptor()),
+            Map.entry("iar", () -> new IarDescriptor()),
+            Map.entry("iblinter", () -> new IbLinterDescriptor()),
+            Map.entry("idea", () -> new IdeaInspectionDescriptor()),
+            Map.entry("infer", () -> new InferDescriptor()),
+            Map.entry("intel", () -> new IntelDescriptor()),
+            Map.entry("invalids", () -> new InvalidsDescriptor()),
+            Map.entry("java", () -> new JavaDescriptor()),
+            Map.entry("javadoc-warnings", () -> new JavaDocDescriptor()),
+            Map.entry("jc-report", () -> new JcreportDescriptor()),
+            Map.entry("js-hint", () -> new JsHintDescriptor()),
+            Map.entry("jslint", () -> new JsLintDescriptor()),
+            Map.entry("junit", () -> new JUnitDescriptor()),
+            Map.entry("klocwork", () -> new KlocWorkDescriptor()),
+            Map.entry("kotlin", () -> new KotlinDescriptor()),
+            Map.entry("ktlint", () -> new KtLintDescriptor()),
+            Map.entry("maven-warnings", () -> new MavenConsoleDescriptor()),
+            Map.entry("modelsim", () -> new MentorGraphicsDescriptor()),
+            Map.entry("metrowerks", () -> new MetrowerksCodeWarriorDescriptor()),
+            Map.entry("msbuild", () -> new MsBuildDescriptor()),
+            Map.entry("mypy", () -> new MyPyDescriptor()),
+            Map.entry("nag-fortran", () -> new NagFortranDescriptor()),
+            Map.entry("native", () -> new NativeFormatDescriptor()),
+            Map.entry("oelint-adv", () -> new OeLintAdvDescriptor()),
+            Map.entry("ot-docker-linter", () -> new OtDockerLintDescriptor()),
+            Map.entry("owasp-dependency-check", () -> new OwaspDependencyCheckDescriptor()),
+            Map.entry("pclint", () -> new PcLintDescriptor()),
+            Map.entry("pep8", () -> new Pep8Descriptor()),
+            Map.entry("perforce", () -> new PerforceDescriptor()),
+            Map.entry("perl-critic", () -> new PerlCriticDescriptor()),
+            Map.entry("php-code-sniffer", () -> new PhpCodeSnifferDescriptor()),
+            Map.entry("php", () -> new PhpDescriptor()),
+            Map.entry("phpstan", () -> new PhpStanDescriptor()),
+            Map.entry("pit", () -> new PitDescriptor()),
+            Map.entry("pmd", () -> new PmdDescriptor()),
+            Map.entry("pnpm-audit", () -> new PnpmAuditDescriptor()),
+            Map.entry("polyspace-parser", () -> new PolyspaceDescriptor()),
+            Map.entry("prefast", () -> new PreFastDescriptor()),
+            Map.entry("protolint", () -> new ProtoLintDescriptor()),
+            Map.entry("puppetlint", () -> new PuppetLintDescriptor()),
+            Map.entry("pvs-studio", () -> new PvsStudioDescriptor()),
+            Map.entry("pydocstyle", () -> new PyDocStyleDescriptor()),
+            Map.entry("pylint", () -> new PyLintDescriptor()),
+            Map.entry("qac", () -> new QacSourceCodeAnalyserDescriptor()),
+            Map.entry("qt-translation", () -> new QtTranslationDescriptor()),
+            Map.entry("resharper", () -> new ResharperDescriptor()),
+            Map.entry("revapi", () -> new RevApiDescriptor()),
+            Map.entry("rflint", () -> new RfLintDescriptor()),
+            Map.entry("robocopy", () -> new RoboCopyDescriptor()),
+            Map.entry("rubocop", () -> new RuboCopDescriptor()),
+            Map.entry("sarif", () -> new SarifDescriptor()),
+            Map.entry("scala", () -> new ScalaDescriptor()),
+            Map.entry("semgrep", () -> new SemgrepDescriptor()),
+            Map.entry("simian", () -> new SimianDescriptor()),
+            Map.entry("simulink-check-parser", () -> new SimulinkCheckDescriptor()),
+            Map.entry("sonar", () -> new SonarQubeDescriptor()),
+            Map.entry("sphinx", () -> new SphinxBuildDescriptor()),
+            Map.entry("spotbugs", () -> new SpotBugsDescriptor()),
+            Map.entry("stylecop", () -> new StyleCopDescriptor()),
+            Map.entry("stylelint", () -> new StyleLintDescriptor()),
+            Map.entry("sunc", () -> new SunCDescriptor()),
+            Map.entry("swiftlint", () -> new SwiftLintDescriptor()),
+            Map.entry("taglist", () -> new TaglistDescriptor()),
+            Map.entry("tasking-vx", () -> new TaskingVxCompilerDescriptor()),
+            Map.entry("code-composer", () -> new TiCcsDescriptor()),
+            Map.entry("tnsdl", () -> new TnsdlDescriptor()),
+            Map.entry("trivy", () -> new TrivyDescriptor()),
+            Map.entry("tslint", () -> new TsLintDescriptor()),
+            Map.entry("vale", () -> new ValeDescriptor()),
+            Map.entry("valgrind", () -> new ValgrindDescriptor()),
+            Map.entry("veracode-pipeline-scanner", () -> new VeraCodePipelineScannerDescriptor()),
+            Map.entry("xlc", () -> new XlcDescriptor()),
+            Map.entry("yamllint", () -> new YamlLintDescriptor()),
+            Map.entry("yoctocli", () -> new YoctoScannerDescriptor()),
+            Map.entry("xmllint", () -> new XmlLintDescriptor()),
+            Map.entry("yui", () -> new YuiCompressorDescriptor()),
+            Map.entry("zptlint", () -> new ZptLintDescriptor())
+    );
+
+    @SafeVarargs
+    private static Map<String, Supplier<ParserDescriptor>> createFactories(
+            final Map.Entry<String, Supplier<ParserDescriptor>>... factories) {
+        Map<String, Supplier<ParserDescriptor>> factoriesById = new LinkedHashMap<>();
+        for (Map.Entry<String, Supplier<ParserDescriptor>> factory : factories) {
+            if (factoriesById.put(factory.getKey(), factory.getValue()) != null) {
+                throw new IllegalArgumentException("Duplicate parser ID: " + factory.getKey());
+            }
+        }
+        return Collections.unmodifiableMap(factoriesById);
+    }
 
-    private final Map<String, ParserDescriptor> descriptors;
+    /** The descriptors that have been created so far, shared by all registry instances. */
+    private static final Map<String, ParserDescriptor> DESCRIPTORS = new ConcurrentHashMap<>();
 
     /**
-     * Creates a new registry instance.
+     * Creates a new registry instance. All instances share the same descriptors, so creating a registry is cheap.
      */
     public ParserRegistry() {
-        descriptors = Arrays.stream(ALL_DESCRIPTORS)
-                .collect(Collectors.toMap(ParserDescriptor::getId, Function.identity()));
+        // nothing to initialize, descriptors are created on demand
     }
 
     /**
@@ -194,7 +213,7 @@ public class ParserRegistry {
      * @return a set of all IDs
      */
     public Set<String> getIds() {
-        return new HashSet<>(descriptors.keySet());
+        return new HashSet<>(ALL_DESCRIPTORS.keySet());
     }
 
     /**
@@ -203,7 +222,7 @@ public class ParserRegistry {
      * @return a set of all names
      */
     public Set<String> getNames() {
-        return descriptors.values().stream().map(ParserDescriptor::getName).collect(Collectors.toSet());
+        return getAllDescriptors().stream().map(ParserDescriptor::getName).collect(Collectors.toSet());
     }
 
     /**
@@ -215,11 +234,12 @@ public class ParserRegistry {
      * @return {@code true} if the parser exists, {@code false} otherwise
      */
     public boolean contains(final String id) {
-        return descriptors.containsKey(id);
+        return ALL_DESCRIPTORS.containsKey(id);
     }
 
     /**
-     * Returns the {@link ParserDescriptor} with the specified ID.
+     * Returns the {@link ParserDescriptor} with the specified ID. The descriptor will be created when it is requested
+     * for the first time.
      *
      * @param id
      *         the ID of the parser
@@ -229,19 +249,21 @@ public class ParserRegistry {
      *         if no such parser exists
      */
     public ParserDescriptor get(final String id) {
-        if (descriptors.containsKey(id)) {
-            return descriptors.get(id);
+        var factory = ALL_DESCRIPTORS.get(id);
+        if (factory != null) {
+            return DESCRIPTORS.computeIfAbsent(id, key -> factory.get());
         }
         throw new NoSuchElementException("No such parser registered: " + id);
     }
 
     /**
-     * Returns all descriptors.
+     * Returns all descriptors in the order of their declaration. Note that this method creates all descriptors that
+     * have not been requested yet.
      *
      * @return all supported descriptors
      */
     public List<ParserDescriptor> getAllDescriptors() {
-        return new ArrayList<>(descriptors.values());
+        return ALL_DESCRIPTORS.keySet().stream().map(this::get).collect(Collectors.toCollection(ArrayList::new));
     }
 
     /**
@@ -15,7 +15,7 @@ class PmdDescriptor extends ParserDescriptor {
     private static final String ID = "pmd";
     private static final String NAME = "PMD";
 
-    private final Deferred<PmdMessages> messages = new Deferred<>(PmdMessages::new);
+    private static final Deferred<PmdMessages> MESSAGES = new Deferred<>(PmdMessages::new);
 
     PmdDescriptor() {
         super(ID, NAME);
@@ -43,6 +43,6 @@ class PmdDescriptor extends ParserDescriptor {
 
     @Override
     public String getDescription(final Issue issue) {
-        return messages.get().getMessage(issue.getCategory(), issue.getType());
+        return MESSAGES.get().getMessage(issue.getCategory(), issue.getType());
     }
 }
@@ -15,7 +15,7 @@ class PyLintDescriptor extends ParserDescriptor {
     private static final String ID = "pylint";
     private static final String NAME = "Pylint";
 
-    private final Deferred<PyLintDescriptions> messages = new Deferred<>(PyLintDescriptions::new);
+    private static final Deferred<PyLintDescriptions> MESSAGES = new Deferred<>(PyLintDescriptions::new);
 
     PyLintDescriptor() {
         super(ID, NAME);
@@ -35,6 +35,6 @@ class PyLintDescriptor extends ParserDescriptor {
 
     @Override
     public String getDescription(final Issue issue) {
-        return messages.get().getDescription(issue.getType());
+        return MESSAGES.get().getDescription(issue.getType());
     }
 }
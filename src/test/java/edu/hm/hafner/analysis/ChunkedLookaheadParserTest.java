@@ -0,0 +1,158 @@
+package edu.hm.hafner.analysis;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+
+import edu.hm.hafner.analysis.parser.Gcc4CompilerParser;
+import edu.hm.hafner.analysis.parser.GccParser;
+import edu.hm.hafner.analysis.parser.JavacParser;
+import edu.hm.hafner.analysis.parser.MsBuildParser;
+import edu.hm.hafner.util.ResourceTest;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link ChunkedLookaheadParser}.
+ *
+ * @author Ullrich Hafner
+ */
+class ChunkedLookaheadParserTest extends ResourceTest {
+    private static final String[] LOGS = {"gnuMakeGcc.txt", "gcc4.txt", "gcc.txt", "msbuild.txt", "javac.txt"};
+    private static final int COPIES = 10;
+
+    @ParameterizedTest(name = "[{index}] Chunk size = {0}")
+    @ValueSource(longs = {1, 100, 1000, 10_000, ChunkedLookaheadParser.DEFAULT_CHUNK_SIZE})
+    void shouldCreateSameReportAsSequentialParser(final long chunkSize, @TempDir final Path folder)
+            throws IOException {
+        var log = createConsoleLog(folder);
+
+        assertThat(new Gcc4CompilerParser().parse(new FileReaderFactory(log)).get())
+                .extracting(Issue::getFileName).anyMatch(fileName -> fileName.startsWith("/dir1/dir2/"));
+        assertThatChunkedParserCreatesSameReport(Gcc4CompilerParser::new, log, chunkSize);
+        assertThatChunkedParserCreatesSameReport(GccParser::new, log, chunkSize);
+        assertThatChunkedParserCreatesSameReport(MsBuildParser::new, log, chunkSize);
+        assertThatChunkedParserCreatesSameReport(JavacParser::new, log, chunkSize);
+    }
+
+    @Test
+    void shouldAppendContinuationLinesOfTheNextChunk(@TempDir final Path folder) throws IOException {
+        var warning = "foo.c:10:5: warning: unused variable 'x' [-Wunused-variable]\n";
+        var log = write(folder, "gcc -c foo.c\n"
+                + warning
+                + "   int x;\n"
+                + "       ^\n"
+                + "foo.c:20:1: error: expected ';' before '}' token\n");
+        var chunkSize = ("gcc -c foo.c\n" + warning).length() - 1; // the next chunk starts with the continuation
+
+        var report = assertThatChunkedParserCreatesSameReport(Gcc4CompilerParser::new, log, chunkSize);
+
+        assertThat(report).hasSize(2);
+        assertThat(report.get(0)).hasMessage("unused variable 'x' [-Wunused-variable]\n   int x;\n       ^");
+        assertThat(report.get(1)).hasMessage("expected ';' before '}' token");
+    }
+
+    @Test
+    void shouldReparseChunkWithDirectoryOfLeftDirectories(@TempDir final Path folder) throws IOException {
+        var firstChunk = "make: Entering directory '/build/lib'\n"
+                + "lib.c:1:1: warning: in library\n"
+                + "make: Leaving directory '/build/lib'\n";
+        var log = write(folder, firstChunk
+                + "main.c:2:2: warning: in root\n"
+                + "make: Entering directory '/build/app'\n"
+                + "app.c:3:3: warning: in application\n");
+
+        var report = assertThatChunkedParserCreatesSameReport(Gcc4CompilerParser::new, log, firstChunk.length() - 1);
+
+        assertThat(report).hasSize(3);
+        assertThat(report.get(0)).hasFileName("/build/lib/lib.c");
+        assertThat(report.get(1)).hasFileName("main.c");
+        assertThat(report.get(2)).hasFileName("/build/app/app.c");
+    }
+
+    @Test
+    void shouldCancelParsingIfCallingThreadHasBeenInterrupted(@TempDir final Path folder) throws IOException {
+        var log = createConsoleLog(folder);
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            var parser = new ChunkedLookaheadParser(new Gcc4CompilerParser(), executor, 1000);
+
+            Thread.currentThread().interrupt();
+            assertThatExceptionOfType(ParsingCanceledException.class)
+                    .isThrownBy(() -> parser.parse(new FileReaderFactory(log)));
+        }
+        finally {
+            Thread.interrupted(); // clear the flag if the parser did not consume it
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void shouldCancelParsingIfChunkThreadHasBeenInterrupted(@TempDir final Path folder) throws IOException {
+        var log = createConsoleLog(folder);
+        Executor interruptingExecutor = command -> new Thread(() -> {
+            Thread.currentThread().interrupt();
+            command.run();
+        }).start();
+
+        var parser = new ChunkedLookaheadParser(new Gcc4CompilerParser(), interruptingExecutor, 1000);
+
+        assertThatExceptionOfType(ParsingCanceledException.class)
+                .isThrownBy(() -> parser.parse(new FileReaderFactory(log)));
+    }
+
+    private Path write(final Path folder, final String content) throws IOException {
+        var log = folder.resolve("console.log");
+        Files.writeString(log, content, StandardCharsets.UTF_8);
+        return log;
+    }
+
+    @CanIgnoreReturnValue
+    private Report assertThatChunkedParserCreatesSameReport(final Supplier<LookaheadParser> parserFactory,
+            final Path log, final long chunkSize) {
+        // each run uses a new parser, since parsers retain the entered directories of previous runs
+        var expected = parserFactory.get().parse(new FileReaderFactory(log));
+        assertThat(expected).isNotEmpty();
+
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            var actual = new ChunkedLookaheadParser(parserFactory.get(), executor, chunkSize)
+                    .parse(new FileReaderFactory(log));
+
+            assertThat(actual).hasSize(expected.size());
+            assertThat(actual.get()).containsExactlyElementsOf(expected.get());
+            assertThat(actual.get()).extracting(Issue::getFileName)
+                    .containsExactlyElementsOf(expected.get().stream().map(Issue::getFileName).toList());
+            assertThat(actual.getErrorMessages()).isEqualTo(expected.getErrorMessages());
+            return actual;
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    private Path createConsoleLog(final Path folder) throws IOException {
+        var content = new ByteArrayOutputStream();
+        for (int i = 0; i < COPIES; i++) {
+            for (String log : LOGS) {
+                content.write(readAllBytes("parser/" + log));
+                content.write(i % 2 == 0 ? '\n' : '\r');
+            }
+        }
+        var log = folder.resolve("console.log");
+        Files.write(log, content.toByteArray());
+        return log;
+    }
+}
@@ -0,0 +1,57 @@
+package edu.hm.hafner.analysis;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.hm.hafner.util.PathUtil;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link FileExistenceCache}.
+ *
+ * @author Ullrich Hafner
+ */
+class FileExistenceCacheTest {
+    private static final PathUtil PATH_UTIL = new PathUtil();
+
+    @Test
+    void shouldCacheExistingAndMissingFiles(@TempDir final Path folder) throws IOException {
+        var existing = PATH_UTIL.getAbsolutePath(Files.createFile(folder.resolve("existing.txt")));
+        var missing = PATH_UTIL.createAbsolutePath(PATH_UTIL.getAbsolutePath(folder), "missing.txt");
+
+        var cache = new FileExistenceCache();
+
+        assertThat(cache.exists(existing)).isTrue();
+        assertThat(cache.exists(missing)).isFalse();
+        assertThat(cache.getHits()).isZero();
+        assertThat(cache.getMisses()).isEqualTo(2);
+
+        assertThat(cache.exists(existing)).isTrue();
+        assertThat(cache.exists(missing)).isFalse();
+        assertThat(cache.getHits()).isEqualTo(2);
+        assertThat(cache.getMisses()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldSkipFilesInMissingDirectories(@TempDir final Path folder) throws IOException {
+        var generated = folder.resolve("src/gen");
+        var file = PATH_UTIL.getAbsolutePath(generated.resolve("File.java"));
+
+        var cache = new FileExistenceCache();
+
+        assertThat(cache.exists(file)).isFalse();
+
+        Files.createDirectories(generated);
+        Files.createFile(generated.resolve("Other.java"));
+
+        // the missing directory has been cached, so the file system is not accessed anymore
+        assertThat(cache.exists(PATH_UTIL.getAbsolutePath(generated.resolve("Other.java")))).isFalse();
+        assertThat(new FileExistenceCache().exists(PATH_UTIL.getAbsolutePath(generated.resolve("Other.java"))))
+                .isTrue();
+    }
+}
@@ -0,0 +1,161 @@
+package edu.hm.hafner.analysis;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import edu.hm.hafner.util.LookaheadStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the classes {@link FileLineReader} and {@link LineReaderLookaheadStream}.
+ *
+ * @author Ullrich Hafner
+ */
+class FileLineReaderTest {
+    @ParameterizedTest(name = "[{index}] Buffer size {0}")
+    @ValueSource(ints = {1, 2, 3, 7, 64 * 1024})
+    void shouldSplitLinesLikeBufferedReader(final int bufferSize, @TempDir final Path folder) throws IOException {
+        var content = "first\nsecond\r\nthird\rfourth\n\n\r\n\r\rÄÖÜ äöü ß €\n"
+                + "x".repeat(1000) + "\r\nlast";
+        var factory = createFactory(folder, content, StandardCharsets.UTF_8);
+
+        assertThat(readLines(factory, bufferSize)).containsExactlyElementsOf(readExpectedLines(factory));
+    }
+
+    @ParameterizedTest(name = "[{index}] Content \"{0}\"")
+    @ValueSource(strings = {"", "\n", "\r", "\r\n", "a", "a\n", "a\r", "a\r\n", "\n\n", "\uFEFFa\nb", "\uFEFF"})
+    void shouldHandleBoundaries(final String content, @TempDir final Path folder) throws IOException {
+        var factory = createFactory(folder, content, StandardCharsets.UTF_8);
+
+        assertThat(readLines(factory, 1)).containsExactlyElementsOf(readExpectedLines(factory));
+    }
+
+    @Test
+    void shouldReadSingleByteCharsets(@TempDir final Path folder) throws IOException {
+        var factory = createFactory(folder, "Grüße\r\naus München\n", StandardCharsets.ISO_8859_1);
+
+        assertThat(readLines(factory, 4)).containsExactly("Grüße", "aus München");
+    }
+
+    @Test
+    void shouldDetectSupportedCharsets() {
+        assertThat(FileLineReader.isSupported(StandardCharsets.UTF_8)).isTrue();
+        assertThat(FileLineReader.isSupported(StandardCharsets.ISO_8859_1)).isTrue();
+        assertThat(FileLineReader.isSupported(StandardCharsets.US_ASCII)).isTrue();
+        assertThat(FileLineReader.isSupported(StandardCharsets.UTF_16)).isFalse();
+        assertThat(FileLineReader.isSupported(StandardCharsets.UTF_16LE)).isFalse();
+    }
+
+    @Test
+    void shouldRemoveColorCodesAndReturnViewsOtherwise(@TempDir final Path folder) throws IOException {
+        var factory = createFactory(folder, "\u001B[1;33m[WARNING]\u001B[m colored\n[WARNING] clean\n",
+                StandardCharsets.UTF_8);
+
+        try (var reader = new FileLineReader(factory)) {
+            assertThat(reader.readLine()).isInstanceOf(String.class).hasToString("[WARNING] colored");
+            assertThat(reader.readLine()).isNotInstanceOf(String.class).hasToString("[WARNING] clean");
+            assertThat(reader.readLine()).isNull();
+        }
+    }
+
+    @Test
+    void shouldCancelReadingIfThreadHasBeenInterrupted(@TempDir final Path folder) throws IOException {
+        var factory = createFactory(folder, "one\ntwo\n", StandardCharsets.UTF_8);
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThatExceptionOfType(ParsingCanceledException.class).isThrownBy(() -> readLines(factory, 4));
+        }
+        finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    void shouldProvideStartOfLines(@TempDir final Path folder) throws IOException {
+        var factory = createFactory(folder, "one\r\ntwo\nthree", StandardCharsets.UTF_8);
+
+        try (var reader = new FileLineReader(factory, 5, 2)) {
+            assertThat(reader.getPosition()).isEqualTo(5);
+            assertThat(reader.readLine()).hasToString("two");
+            assertThat(reader.getPosition()).isEqualTo(9);
+            assertThat(reader.readLine()).hasToString("three");
+            assertThat(reader.getPosition()).isEqualTo(14);
+            assertThat(reader.readLine()).isNull();
+        }
+    }
+
+    @Test
+    void shouldBehaveLikeLookaheadStream(@TempDir final Path folder) throws IOException {
+        var factory = createFactory(folder, "one\ntwo\nthree\n", StandardCharsets.UTF_8);
+
+        try (var lines = factory.readStream();
+                var expected = new LookaheadStream(lines, factory.getFileName());
+                var actual = new LineReaderLookaheadStream(new FileLineReader(factory), factory.getFileName())) {
+            assertThat(actual.getFileName()).isEqualTo(expected.getFileName());
+            for (LookaheadStream stream : List.of(expected, actual)) {
+                assertThat(stream.hasNext()).isTrue();
+                assertThat(stream.hasNext("^o")).isTrue();
+                assertThat(stream.hasNext("^t")).isFalse();
+                assertThat(stream.peekNext()).isEqualTo("one");
+                assertThat(stream.next()).isEqualTo("one");
+                assertThat(stream.getLine()).isEqualTo(1);
+                assertThat(stream.peekNext()).isEqualTo("two");
+                assertThat(stream.getLine()).isEqualTo(1);
+                assertThat(stream.next()).isEqualTo("two");
+                assertThat(stream.next()).isEqualTo("three");
+                assertThat(stream.getLine()).isEqualTo(3);
+                assertThat(stream.hasNext()).isFalse();
+                assertThat(stream.hasNext(".*")).isFalse();
+                assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(stream::next);
+            }
+        }
+    }
+
+    @Test
+    void shouldProvideReusableViews(@TempDir final Path folder) throws IOException {
+        var factory = createFactory(folder, "first\nsecond\n", StandardCharsets.UTF_8);
+
+        try (var stream = new LineReaderLookaheadStream(new FileLineReader(factory), factory.getFileName())) {
+            assertThat(stream.nextSequence()).hasToString("first");
+            assertThat(stream.nextSequence()).hasToString("second");
+            assertThat(stream.getLine()).isEqualTo(2);
+            assertThat(stream.hasNext()).isFalse();
+        }
+    }
+
+    private FileReaderFactory createFactory(final Path folder, final String content, final Charset charset)
+            throws IOException {
+        var file = Files.createTempFile(folder, "log", ".txt");
+        Files.writeString(file, content, charset);
+        return new FileReaderFactory(file, charset);
+    }
+
+    private List<String> readLines(final FileReaderFactory factory, final int bufferSize) {
+        List<String> lines = new ArrayList<>();
+        try (var reader = new FileLineReader(factory, 0, bufferSize)) {
+            for (var line = reader.readLine(); line != null; line = reader.readLine()) {
+                lines.add(line.toString());
+            }
+        }
+        return lines;
+    }
+
+    private List<String> readExpectedLines(final FileReaderFactory factory) {
+        try (var lines = factory.readStream()) {
+            return lines.toList();
+        }
+    }
+}
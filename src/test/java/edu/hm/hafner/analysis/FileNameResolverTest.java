@@ -6,6 +6,7 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Path;
+import java.util.concurrent.Executors;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -94,6 +95,56 @@ class FileNameResolverTest {
         assertThat(report.getErrorMessages()).isEmpty();
     }
 
+    @Test
+    @DisplayName("Should use the provided executor to check the files")
+    void shouldSetPathUsingExecutor() {
+        var report = new Report();
+
+        try (var builder = new IssueBuilder()) {
+            report.add(builder.setFileName(RELATIVE_FILE).build());
+            report.add(builder.setFileName("not here").build());
+        }
+
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            new FileNameResolver(executor).run(report, RESOURCE_FOLDER_PATH.toString(), f -> false);
+        }
+        finally {
+            executor.shutdown();
+        }
+
+        assertThat(report.get(0)).hasFileName(RELATIVE_FILE).hasPath(RESOURCE_FOLDER_STRING);
+        assertThat(report.get(1)).hasFileName("not here").hasPath(UNDEFINED);
+        assertThat(report.getInfoMessages()).singleElement().asString().contains("1 found", "1 not found");
+    }
+
+    @Test
+    @DisplayName("Should check the existence of files only once if the resolver is reused")
+    void shouldCacheExistenceOfFiles() {
+        var resolver = new FileNameResolver();
+
+        var first = createReportWithExistingAndMissingFile();
+        resolver.run(first, RESOURCE_FOLDER_PATH.toString(), f -> false);
+        assertThat(first.getInfoMessages()).singleElement().asString()
+                .contains("1 found", "1 not found", "0 hits", "2 misses");
+
+        var second = createReportWithExistingAndMissingFile();
+        resolver.run(second, RESOURCE_FOLDER_PATH.toString(), f -> false);
+        assertThat(second.getInfoMessages()).singleElement().asString()
+                .contains("1 found", "1 not found", "2 hits", "0 misses");
+        assertThat(second.get(0)).hasFileName(RELATIVE_FILE).hasPath(RESOURCE_FOLDER_STRING);
+        assertThat(second.get(1)).hasPath(UNDEFINED);
+    }
+
+    private Report createReportWithExistingAndMissingFile() {
+        var report = new Report();
+        try (var builder = new IssueBuilder()) {
+            report.add(builder.setFileName(RELATIVE_FILE).build());
+            report.add(builder.setFileName("src/gen/Missing.java").build());
+        }
+        return report;
+    }
+
     @Test
     @DisplayName("Should not set path if the relative file name doe not exist")
     void shouldNotSetPath() {
@@ -139,7 +190,8 @@ class FileNameResolverTest {
 
         resolvePaths(report, RESOURCE_FOLDER_PATH, "skip"::equals);
 
-        assertThat(report).hasSize(7);
+        assertThat(report).as("Issue with absolute file name (normalized) is merged with relative file name")
+                .hasSize(6).hasDuplicatesSize(1);
         assertThat(report.get(0)).as("Issue with no file name")
                 .hasFileName("-");
         assertThat(report.get(1)).as("Issue with path name resolution skipped")
@@ -148,13 +200,11 @@ class FileNameResolverTest {
         assertThat(report.get(2)).as("Issue with relative file name")
                 .hasFileName(RELATIVE_FILE);
 
-        assertThat(report.get(3)).as("Issue with absolute file name (normalized)")
-                .hasFileName(RELATIVE_FILE);
-        assertThat(report.get(4)).as("Issue with absolute file name (not normalized)")
+        assertThat(report.get(3)).as("Issue with absolute file name (not normalized)")
                 .hasFileName("normalized.txt");
-        assertThat(report.get(5)).as("Issue with absolute file name (not existing)")
+        assertThat(report.get(4)).as("Issue with absolute file name (not existing)")
                 .hasFileName(RESOURCE_FOLDER_STRING + "/not-existing.txt");
-        assertThat(report.get(6)).as("Issue with absolute file name (not existing parent path)")
+        assertThat(report.get(5)).as("Issue with absolute file name (not existing parent path)")
                 .hasFileName("/not-existing-parent.txt");
 
         assertThat(report.getInfoMessages()).hasSize(1);
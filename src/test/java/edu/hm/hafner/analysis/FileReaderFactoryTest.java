@@ -40,6 +40,17 @@ class FileReaderFactoryTest extends ResourceTest {
                 """);
     }
 
+    @Test
+    void shouldNotMapLinesOfStructuredFormats() {
+        var factory = new ConsoleLogReaderFactory(
+                getResourceAsFile("ath-colored.log"));
+
+        assertThat(factory.readStructuredString()).contains("\u001B[").contains("[WARNING]");
+        try (var lines = factory.readStructuredStream()) {
+            assertThat(lines).anyMatch(line -> line.contains("\u001B[8mha:"));
+        }
+    }
+
     @Test
     void shouldNotAccessInternet() {
         var factory = createFactory("eclipse-withinfo.xml", UTF_8);
@@ -5,6 +5,8 @@ import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.nio.charset.MalformedInputException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -117,7 +119,7 @@ class FingerprintGeneratorTest extends ResourceTest {
 
     @Test
     void shouldAssignDifferentFingerprint() {
-        var report = createTwoIssues();
+        var report = createTwoIssuesInDifferentFiles();
         var generator = new FingerprintGenerator();
         var fingerprint = createFullTextFingerprint("fingerprint-two.txt");
 
@@ -130,6 +132,83 @@ class FingerprintGeneratorTest extends ResourceTest {
         assertThat(referenceIssue.getFingerprint()).isNotEqualTo(currentIssue.getFingerprint());
     }
 
+    @Test
+    @SuppressWarnings("MustBeClosedChecker")
+    void shouldReadEachFileOnlyOnce() throws IOException {
+        var fileSystem = mock(FileSystem.class);
+        when(fileSystem.readLinesFromFile(anyString(), any()))
+                .thenAnswer(invocation -> asStream("context.txt"));
+
+        var report = new Report();
+        try (var builder = new IssueBuilder()) {
+            builder.setFileName(AFFECTED_FILE_NAME);
+            for (int line = 1; line <= 30; line++) {
+                report.add(builder.setLineStart(line).build());
+            }
+            report.add(builder.setFileName("other.txt").setLineStart(10).build());
+        }
+
+        var generator = new FingerprintGenerator();
+        generator.run(new FullTextFingerprint(fileSystem), report, CHARSET_AFFECTED_FILE);
+
+        verify(fileSystem).readLinesFromFile(eq(AFFECTED_FILE_NAME), any());
+        verify(fileSystem).readLinesFromFile(eq("other.txt"), any());
+        verifyNoMoreInteractions(fileSystem);
+
+        assertThat(report.get(9).getFingerprint()).isEqualTo("C10CFE4EC75F0C7F54980D432624D1C9")
+                .isEqualTo(report.get(19).getFingerprint())
+                .isEqualTo(report.get(30).getFingerprint())
+                .isNotEqualTo(report.get(10).getFingerprint());
+        assertThat(report.getInfoMessages()).contains("-> created fingerprints for 31 issues (skipped 0 issues)");
+    }
+
+    @Test
+    @SuppressWarnings("MustBeClosedChecker")
+    void shouldCreateSameFingerprintsAndLogInParallel() throws IOException {
+        var fileSystem = mock(FileSystem.class);
+        when(fileSystem.readLinesFromFile(anyString(), any()))
+                .thenAnswer(invocation -> asStream("context.txt"));
+        when(fileSystem.readLinesFromFile(startsWith("missing"), any()))
+                .thenThrow(new NoSuchFileException("missing"));
+
+        var sequential = createIssuesInSeveralFiles();
+        new FingerprintGenerator().run(new FullTextFingerprint(fileSystem), sequential, CHARSET_AFFECTED_FILE);
+
+        var pool = new ForkJoinPool(4);
+        try {
+            var parallel = createIssuesInSeveralFiles();
+            new FingerprintGenerator(pool).run(new FullTextFingerprint(fileSystem), parallel, CHARSET_AFFECTED_FILE);
+
+            assertThat(parallel.stream().map(Issue::getFingerprint))
+                    .containsExactlyElementsOf(sequential.stream().map(Issue::getFingerprint).toList());
+            assertThat(parallel.getErrorMessages()).isEqualTo(sequential.getErrorMessages())
+                    .contains("- 'missing-1.txt' file not found", "- 'missing-2.txt' file not found");
+            assertThat(parallel.getInfoMessages()).isEqualTo(sequential.getInfoMessages())
+                    .contains("-> created fingerprints for 100 issues (skipped 20 issues)");
+        }
+        finally {
+            pool.shutdown();
+        }
+    }
+
+    private Report createIssuesInSeveralFiles() {
+        var report = new Report();
+        try (var builder = new IssueBuilder()) {
+            for (int file = 0; file < 12; file++) {
+                if (file % 6 == 1) {
+                    builder.setFileName("missing-" + (file / 6 + 1) + ".txt");
+                }
+                else {
+                    builder.setFileName("file-" + file + ".txt");
+                }
+                for (int line = 1; line <= 10; line++) {
+                    report.add(builder.setLineStart(line + file).build());
+                }
+            }
+        }
+        return report;
+    }
+
     @ParameterizedTest(name = "[{index}] Illegal filename {0}")
     @ValueSource(strings = {"/does/not/exist", "!<>$&/&(", "\0 Null-Byte"})
     void shouldUseFallbackFingerprintOnError(final String fileName) {
@@ -198,6 +277,16 @@ class FingerprintGeneratorTest extends ResourceTest {
         }
     }
 
+    private Report createTwoIssuesInDifferentFiles() {
+        try (var builder = new IssueBuilder()) {
+            var report = createIssues();
+            builder.setLineStart(5);
+            report.add(builder.setFileName(AFFECTED_FILE_NAME).build());
+            report.add(builder.setFileName("other-" + AFFECTED_FILE_NAME).build());
+            return report;
+        }
+    }
+
     private Report createIssues() {
         return new Report();
     }
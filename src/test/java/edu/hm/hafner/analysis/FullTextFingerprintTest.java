@@ -3,6 +3,9 @@ package edu.hm.hafner.analysis;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.NoSuchFileException;
 import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
@@ -78,6 +81,33 @@ class FullTextFingerprintTest extends ResourceTest {
         }
     }
 
+    /**
+     * Verifies that the contexts of several lines that are extracted in a single pass are the same as the contexts that
+     * are extracted line by line.
+     */
+    @Test
+    void shouldExtractContextsOfAllLinesInOnePass() {
+        var affectedFile = new String(readAllBytes("context.txt"), StandardCharsets.UTF_8);
+
+        var fingerprint = new FullTextFingerprint();
+
+        List<Integer> lines = IntStream.rangeClosed(-1, 40).boxed().collect(Collectors.toList());
+        var contexts = fingerprint.extractContexts(lines, asIterator(affectedFile));
+
+        assertThat(contexts).hasSize(lines.size());
+        for (Integer line : lines) {
+            assertThat(contexts.get(line)).as("Context of line %d", line)
+                    .isEqualTo(fingerprint.extractContext(line, asIterator(affectedFile)));
+        }
+
+        var fingerprints = fingerprint.createFingerprints(List.of(10, 20, 11),
+                getTextLinesAsStream(affectedFile), StandardCharsets.UTF_8);
+        assertThat(fingerprints).containsEntry(10, "C10CFE4EC75F0C7F54980D432624D1C9")
+                .containsEntry(20, "C10CFE4EC75F0C7F54980D432624D1C9")
+                .containsEntry(11, fingerprint.createFingerprint(11,
+                        getTextLinesAsStream(affectedFile), StandardCharsets.UTF_8));
+    }
+
     @Test
     void shouldThrowNoSuchFileExceptionIfFileDoesNotExist() {
         var fingerprint = new FullTextFingerprint();
@@ -150,6 +150,21 @@ class GradleModuleDetectorTest extends AbstractModuleDetectorTest {
                 .isEqualTo(StringUtils.EMPTY);
     }
 
+    @Test
+    void shouldApplyGradleFilesInTheOrderOfTheWorkspaceScan() {
+        var factory = createFileSystemStub(stub -> {
+            when(stub.find(any(), anyString())).thenReturn(List.of(
+                    PATH_PREFIX_GRADLE + GradleModuleDetector.SETTINGS_GRADLE,
+                    PATH_PREFIX_GRADLE + GradleModuleDetector.BUILD_GRADLE));
+            when(stub.open(anyString())).thenAnswer(filename -> read("settings-1.gradle"));
+        });
+
+        var detector = new ModuleDetectorRunner(ROOT, factory);
+
+        assertThat(detector.guessModuleName(PREFIX + PATH_PREFIX_GRADLE + "build/reports/something.txt"))
+                .isEqualTo(EXPECTED_GRADLE_MODULE_ROOT_BY_PATH);
+    }
+
     @Test
     void shouldEnsureThatGradleSettingsCanParseFormat1() {
         var factory = createFileSystemStub(stub -> {
@@ -1,9 +1,12 @@
 package edu.hm.hafner.analysis;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -34,6 +37,20 @@ public class IssueDifferenceBenchmark extends AbstractBenchmark {
         blackhole.consume(new IssueDifference(state.getCurrent(), CURRENT_BUILD, state.getReference()));
     }
 
+    /**
+     * Benchmarking for the creation of a {@link IssueDifference} for large reports.
+     *
+     * @param state
+     *         a {@link LargeReportsState} object containing the predefined objects for the test
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkDeltaReportCreationForLargeReports(final LargeReportsState state, final Blackhole blackhole) {
+        blackhole.consume(new IssueDifference(state.getCurrent(), CURRENT_BUILD, state.getReference(),
+                state.getIncludes()));
+    }
+
     /**
      * State for the benchmark containing all preconfigured and necessary objects.
      */
@@ -93,4 +110,62 @@ public class IssueDifferenceBenchmark extends AbstractBenchmark {
             }
         }
     }
+
+    /**
+     * State for the benchmark with large reports: half of the issues are outstanding (one half of these matched by
+     * equals, the other half by fingerprint), the other half of the issues are new or fixed, respectively. Reports with
+     * one million issues require a heap of about 3 GB.
+     */
+    @State(Scope.Benchmark)
+    public static class LargeReportsState {
+        private static final int FILES = 1000;
+
+        @Param({"10000", "100000", "1000000"})
+        private int size;
+
+        private Report reference = new Report();
+        private Report current = new Report();
+        private final Map<String, Integer> includes = new HashMap<>();
+
+        public Report getReference() {
+            return reference;
+        }
+
+        public Report getCurrent() {
+            return current;
+        }
+
+        public Map<String, Integer> getIncludes() {
+            return includes;
+        }
+
+        /**
+         * Initializes the reports for the benchmarks.
+         */
+        @Setup(Level.Iteration)
+        public void doSetup() {
+            reference = new Report();
+            current = new Report();
+            try (var builder = new IssueBuilder()) {
+                builder.setCategory("category").setType("type").setSeverity(Severity.WARNING_NORMAL);
+                for (int i = 0; i < size; i++) {
+                    builder.setFileName("/workspace/src/File" + i % FILES + ".java").setLineStart(i);
+                    reference.add(builder.setMessage("Reference " + i).setFingerprint("FP-" + i).build());
+
+                    if (i % 4 == 0) {
+                        current.add(builder.setMessage("Reference " + i).setFingerprint("FP-" + i).build());
+                    }
+                    else if (i % 4 == 1) {
+                        current.add(builder.setMessage("Updated " + i).setFingerprint("FP-" + i).build());
+                    }
+                    else {
+                        current.add(builder.setMessage("Current " + i).setFingerprint("NEW-" + i).build());
+                    }
+                }
+            }
+            for (int file = 0; file < FILES; file += 10) {
+                includes.put("File" + file + ".java", file);
+            }
+        }
+    }
 }
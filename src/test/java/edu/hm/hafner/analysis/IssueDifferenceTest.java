@@ -2,6 +2,7 @@ package edu.hm.hafner.analysis;
 
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
@@ -155,6 +156,86 @@ class IssueDifferenceTest extends ResourceTest {
         assertThat(issueDifference.getOutstandingIssues()).hasSize(1);
     }
 
+    @Test
+    void shouldMoveNewIssuesInChangedCodeToSeparateReport() {
+        var referenceIssues = new Report().add(createIssue("OLD", "OLD", "/path/to/Old.java"));
+        var currentIssues = new Report().addAll(
+                createIssue("OLD", "OLD", "/path/to/Old.java"),
+                createIssue("CHANGED 1", "C1", "/path/to/Changed.java"),
+                createIssue("INDIRECT", "I", "/path/to/Other.java"),
+                createIssue("CHANGED 2", "C2", "/path/to/Changed.java"),
+                createIssue("CHANGED 3", "C3", "/path/to/Second.java"));
+
+        var issueDifference = new IssueDifference(currentIssues, CURRENT_BUILD, referenceIssues,
+                Map.of("to/Changed.java", 1, "Second.java", 2, "Unknown.java", 1));
+
+        assertThat(issueDifference.getOutstandingIssues()).hasSize(1);
+        assertThat(issueDifference.getFixedIssues()).isEmpty();
+        assertThat(issueDifference.getNewIssues()).hasSize(1);
+        assertThat(issueDifference.getNewIssues().get(0)).hasMessage("INDIRECT").hasReference(CURRENT_BUILD);
+        assertThat(issueDifference.getNewIssuesInChangedCode().get())
+                .extracting(Issue::getMessage).containsExactlyInAnyOrder("CHANGED 1", "CHANGED 2", "CHANGED 3");
+        assertThat(issueDifference.getNewIssuesInChangedCode().get())
+                .allSatisfy(issue -> assertThat(issue).hasReference(CURRENT_BUILD));
+    }
+
+    @Test
+    void shouldKeepStructureOfReports() {
+        var checkstyle = new Report("checkstyle", "CheckStyle");
+        checkstyle.addAll(createIssue("OLD", "OLD"), createIssue("TO FIX", "FIX"));
+        var referenceIssues = new Report();
+        referenceIssues.addAll(checkstyle);
+
+        var current = new Report("checkstyle", "CheckStyle");
+        current.addAll(createIssue("OLD", "OLD"), createIssue("NEW", "NEW"));
+        var currentIssues = new Report();
+        currentIssues.addAll(current);
+
+        var issueDifference = new IssueDifference(currentIssues, CURRENT_BUILD, referenceIssues);
+
+        assertThat(issueDifference.getNewIssues().getSubReports()).hasSize(1);
+        assertThat(issueDifference.getNewIssues().getSubReports().get(0)).hasId("checkstyle").hasSize(1);
+        assertThat(issueDifference.getFixedIssues().getSubReports()).hasSize(1);
+        assertThat(issueDifference.getFixedIssues().getSubReports().get(0)).hasId("checkstyle").hasSize(1);
+        assertThat(issueDifference.getFixedIssues().get(0)).hasMessage("TO FIX");
+        assertThat(issueDifference.getOutstandingIssues().get(0)).hasMessage("OLD");
+    }
+
+    @Test
+    void shouldMatchMovedIssuesOnlyIfEnabled() {
+        var referenceIssues = new Report().addAll(
+                createIssueAtLine("MOVED", 10),
+                createIssueAtLine("MOVED", 20),
+                createIssueAtLine("TOO FAR", 30));
+        var currentIssues = new Report().addAll(
+                createIssueAtLine("MOVED", 22),
+                createIssueAtLine("MOVED", 13),
+                createIssueAtLine("TOO FAR", 40));
+
+        var exactDifference = new IssueDifference(currentIssues, CURRENT_BUILD, referenceIssues);
+        assertThat(exactDifference.getOutstandingIssues()).isEmpty();
+        assertThat(exactDifference.getNewIssues()).hasSize(3);
+        assertThat(exactDifference.getFixedIssues()).hasSize(3);
+
+        var fuzzyDifference = new IssueDifference(currentIssues, CURRENT_BUILD, referenceIssues, Map.of(), 5);
+        assertThat(fuzzyDifference.getOutstandingIssues().get())
+                .extracting(Issue::getLineStart).containsExactly(22, 13);
+        assertThat(fuzzyDifference.getNewIssues().get()).extracting(Issue::getLineStart).containsExactly(40);
+        assertThat(fuzzyDifference.getFixedIssues().get()).extracting(Issue::getLineStart).containsExactly(30);
+    }
+
+    private Issue createIssueAtLine(final String message, final int line) {
+        try (var builder = new IssueBuilder()) {
+            return builder.setFileName("file-name")
+                    .setLineStart(line)
+                    .setType("type")
+                    .setMessage(message)
+                    .setFingerprint("FALLBACK-" + line)
+                    .setReference(REFERENCE_BUILD)
+                    .build();
+        }
+    }
+
     private Issue createIssue(final String message, final String fingerprint) {
         return createIssue(message, fingerprint, "file-name");
     }
@@ -125,6 +125,21 @@ class IssueFilterTest {
         assertThat(filtered).hasSize(3);
     }
 
+    @Test
+    void shouldMatchAcrossMessageAndDescription() {
+        var predicate = new IssueFilterBuilder().setExcludeMessageFilter("message\\s+description", "(another)\\1")
+                .build();
+
+        var report = new Report();
+        report.add(new IssueBuilder().setMessage("message").setDescription("description").build());
+        report.add(new IssueBuilder().setMessage("message").setDescription("other").build());
+        report.add(new IssueBuilder().setMessage("anotheranother").setDescription("other").build());
+
+        var filtered = report.filter(predicate);
+        assertThat(filtered).hasSize(1);
+        assertThat(filtered.get(0)).hasDescription("other").hasMessage("message");
+    }
+
     @Test
     void shouldNothingChangeWhenNoFilterIsAdded() {
         var filter = new IssueFilterBuilder().build();
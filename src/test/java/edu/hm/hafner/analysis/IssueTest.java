@@ -1,9 +1,11 @@
 package edu.hm.hafner.analysis;
 
 import java.io.IOException;
+import java.io.Serial;
 import java.util.List;
 import java.util.UUID;
 
+import org.apache.commons.beanutils.PropertyUtils;
 import org.junit.jupiter.api.Test;
 
 import edu.hm.hafner.analysis.assertions.SoftAssertions;
@@ -15,6 +17,7 @@ import edu.hm.hafner.util.TreeStringBuilder;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.Warning;
 
 import static edu.hm.hafner.analysis.assertions.Assertions.*;
 
@@ -195,6 +198,44 @@ class IssueTest extends SerializableTest<Issue> {
         }
     }
 
+    @Test
+    void shouldObtainPropertyValuesWithoutReflection() throws ReflectiveOperationException {
+        var issue = createFilledIssue();
+
+        for (String property : List.of("fileName", "baseName", "folder", "absolutePath", "path", "packageName",
+                "moduleName", CATEGORY, TYPE, "severity", ORIGIN, "originName", MESSAGE, DESCRIPTION,
+                "lineStart", "lineEnd", "columnStart", "columnEnd", "id", FINGERPRINT, REFERENCE)) {
+            assertThat(Issue.getPropertyValueAsString(issue, property)).as(property)
+                    .isEqualTo(PropertyUtils.getProperty(issue, property).toString());
+            assertThat(Issue.getPropertyValueGetter(property).apply(issue)).as(property)
+                    .isEqualTo(PropertyUtils.getProperty(issue, property).toString());
+        }
+        assertThat(Issue.getPropertyValueAsString(issue, "unknown")).isEqualTo("unknown");
+    }
+
+    @Test
+    void shouldInvalidateCachedHashCode() {
+        var issue = createFilledIssue();
+        var other = createFilledIssue();
+
+        issue.setModuleName("changed before hashing");
+        var hashCode = issue.hashCode();
+        assertThat(issue.hashCode()).isEqualTo(hashCode);
+
+        issue.setModuleName(other.getModuleName());
+        assertThat(issue.hashCode()).isNotEqualTo(hashCode).isEqualTo(other.hashCode());
+        assertThat(issue).isEqualTo(other);
+
+        issue.setReference("not part of the hash code");
+        assertThat(issue.hashCode()).isEqualTo(other.hashCode());
+
+        issue.setPackageName(TREE_STRING_BUILDER.intern("changed.package"));
+        issue.setFileName("/path", TREE_STRING_BUILDER.intern("changed.txt"));
+        issue.setOrigin("changed-id", "Changed Name");
+        assertThat(issue).isNotEqualTo(other);
+        assertThat(issue.hashCode()).isEqualTo(new Issue(issue).hashCode());
+    }
+
     @Test
     void shouldChangeMutableProperties() {
         var issue = createFilledIssue();
@@ -342,10 +383,30 @@ class IssueTest extends SerializableTest<Issue> {
                         TREE_STRING_BUILDER.intern("One"),
                         TREE_STRING_BUILDER.intern("Two"))
                 .withPrefabValues(LineRangeList.class, new LineRangeList(10), filled)
-                .forClass(Issue.class)
+                .forClass(UncachedIssue.class)
+                .usingGetClass()
+                .suppress(Warning.NULL_FIELDS) // fields of the superclass are non-null by default
                 .withIgnoredFields("id", "reference", "pathName", "fingerprint", "partOfModifiedCode").verify();
     }
 
+    /**
+     * Verifies the computation of the hash code: EqualsVerifier can't handle cached hash codes of mutable classes.
+     * The cached hash code is verified in {@link #shouldInvalidateCachedHashCode()}.
+     */
+    private static final class UncachedIssue extends Issue {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        UncachedIssue(final Issue copy) {
+            super(copy);
+        }
+
+        @Override
+        public int hashCode() {
+            return computeHashCode();
+        }
+    }
+
     @Override
     protected Issue createSerializable() {
         return createFilledIssue();
@@ -8,6 +8,9 @@ import org.assertj.core.api.AbstractListAssert;
 import org.assertj.core.api.ObjectAssert;
 import org.junit.jupiter.api.Test;
 
+import edu.hm.hafner.util.LineRange;
+import edu.hm.hafner.util.LineRangeList;
+
 import static edu.hm.hafner.analysis.assertions.Assertions.*;
 
 class IssuesInModifiedCodeMarkerTest {
@@ -94,6 +97,34 @@ class IssuesInModifiedCodeMarkerTest {
         assertThatIssuesToString(report).containsExactly(TO_STRING_MODIFIED, TO_STRING_MODIFIED);
     }
 
+    @Test
+    void shouldMarkIssuesIfAdditionalLineRangesMatch() {
+        var report = new Report();
+        try (var builder = new IssueBuilder()) {
+            builder.setFileName("/part/of/modified/code.txt");
+            report.add(builder.setLineStart(12).setLineEnd(20)
+                    .setLineRanges(new LineRangeList(new LineRange(40, 45))).build());
+            report.add(builder.setLineStart(30).setLineEnd(35).setLineRanges(new LineRangeList()).build());
+            report.add(builder.setLineStart(0).setLineEnd(0).build());
+            report.add(builder.setLineStart(1).setLineEnd(50).setFileName("/part/of/other/file.txt").build());
+        }
+
+        var marker = new IssuesInModifiedCodeMarker();
+        marker.markIssuesInModifiedCode(report, Map.of("code.txt", Set.of(45, 50), "of/modified/code.txt", Set.of(2)));
+
+        assertThatModifiedCodeMarkers(report).containsExactly(true, false, true, false);
+    }
+
+    @Test
+    void shouldMarkAllIssuesInFileIfLineZeroIsModified() {
+        var report = createReportWithTwoIssues();
+
+        var marker = new IssuesInModifiedCodeMarker();
+        marker.markIssuesInModifiedCode(report, Map.of("additional/modified/code.txt", Set.of(0)));
+
+        assertThatModifiedCodeMarkers(report).containsExactly(false, true);
+    }
+
     private AbstractListAssert<?, List<? extends String>, String, ObjectAssert<String>> assertThatIssuesToString(
             final Report report) {
         return assertThat(report.get()).extracting(Issue::toString);
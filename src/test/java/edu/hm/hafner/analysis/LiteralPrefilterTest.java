@@ -0,0 +1,78 @@
+package edu.hm.hafner.analysis;
+
+import java.nio.CharBuffer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link LiteralPrefilter}.
+ *
+ * @author Ullrich Hafner
+ */
+class LiteralPrefilterTest {
+    @Test
+    void shouldDeriveLongestLiteralOfSequence() {
+        assertThat(LiteralPrefilter.fromPattern("^(.*):(\\d+): warning: (.*)$").getLiterals())
+                .containsExactly(": warning: ");
+        assertThat(LiteralPrefilter.fromPattern(LookaheadParser.ANT_TASK + "\\[javac\\]\\s*(.*)").getLiterals())
+                .containsExactly("[javac]");
+        assertThat(LiteralPrefilter.fromPattern("a\\.b\\(c\\)").getLiterals())
+                .containsExactly("a.b(c)");
+    }
+
+    @Test
+    void shouldDeriveAlternativesOfGroups() {
+        assertThat(LiteralPrefilter.fromPattern("^(.*)\\((\\d+)\\): (warning|error) (\\w+): (.*)$").getLiterals())
+                .containsExactlyInAnyOrder("warning", "error");
+        assertThat(LiteralPrefilter.fromPattern("(?:warning|error|note):").getLiterals())
+                .containsExactlyInAnyOrder("warning", "error", "note");
+        assertThat(LiteralPrefilter.fromPattern("foo|bar").getLiterals()).containsExactlyInAnyOrder("foo", "bar");
+        assertThat(LiteralPrefilter.fromPattern("(?<file>.*):(?<line>\\d+)").getLiterals()).containsExactly(":");
+    }
+
+    @Test
+    void shouldIgnoreOptionalElements() {
+        assertThat(LiteralPrefilter.fromPattern("abc?d").getLiterals()).containsExactly("ab");
+        assertThat(LiteralPrefilter.fromPattern("ab*cd").getLiterals()).containsExactly("cd");
+        assertThat(LiteralPrefilter.fromPattern("ab+cd").getLiterals()).containsExactly("ab");
+        assertThat(LiteralPrefilter.fromPattern("x(warning)?x").getLiterals()).containsExactly("x");
+        assertThat(LiteralPrefilter.fromPattern("xy(warning){0,1}").getLiterals()).containsExactly("xy");
+        assertThat(LiteralPrefilter.fromPattern("x(warning){1,2}").getLiterals()).containsExactly("warning");
+        assertThat(LiteralPrefilter.fromPattern("[abc]+warn(?=ing)").getLiterals()).containsExactly("warn");
+        assertThat(LiteralPrefilter.fromPattern("[^]]*]x").getLiterals()).containsExactly("]x");
+    }
+
+    @ParameterizedTest(name = "[{index}] No literals in {0}")
+    @ValueSource(strings = {".*", "(a|.*)", "a|", "(?i)warning", "\\Qwarning\\E", "\\x41", "(unbalanced", "a?",
+            "(1|2|3|4|5|6|7|8|9)"})
+    void shouldAcceptAllLinesIfNoLiteralsAreRequired(final String regex) {
+        var prefilter = LiteralPrefilter.fromPattern(regex);
+
+        assertThat(prefilter.getLiterals()).isEmpty();
+        assertThat(prefilter.mayMatch("")).isTrue();
+        assertThat(prefilter.mayMatch("anything")).isTrue();
+    }
+
+    @Test
+    void shouldRejectLinesWithoutDeclaredLiterals() {
+        var prefilter = LiteralPrefilter.of("warning", "error");
+
+        assertThat(prefilter.mayMatch("a warning")).isTrue();
+        assertThat(prefilter.mayMatch("an error")).isTrue();
+        assertThat(prefilter.mayMatch("a note")).isFalse();
+    }
+
+    @Test
+    void shouldRejectCharSequencesWithoutDeclaredLiterals() {
+        var prefilter = LiteralPrefilter.of("warning", "error");
+
+        assertThat(prefilter.mayMatch(CharBuffer.wrap("a warning"))).isTrue();
+        assertThat(prefilter.mayMatch(CharBuffer.wrap("errors"))).isTrue();
+        assertThat(prefilter.mayMatch(CharBuffer.wrap("warnin"))).isFalse();
+        assertThat(prefilter.mayMatch(CharBuffer.wrap("a note"))).isFalse();
+    }
+}
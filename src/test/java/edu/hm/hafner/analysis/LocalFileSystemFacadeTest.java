@@ -0,0 +1,106 @@
+package edu.hm.hafner.analysis;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.hm.hafner.util.PathUtil;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link LocalFileSystemFacade}.
+ *
+ * @author Ullrich Hafner
+ */
+class LocalFileSystemFacadeTest {
+    private static final String PATTERNS = "**/pom.xml, **/META-INF/MANIFEST.MF";
+
+    @Test
+    void shouldFindAllPatternsInSingleWalkAndSkipExcludedDirectories(@TempDir final Path workspace)
+            throws IOException {
+        createPom(workspace.resolve("pom.xml"), "root");
+        createPom(workspace.resolve("module/pom.xml"), "module");
+        createPom(workspace.resolve("module/target/classes/pom.xml"), "copy");
+        createPom(workspace.resolve("node_modules/library/pom.xml"), "library");
+        createPom(workspace.resolve(".git/pom.xml"), "git");
+        write(workspace.resolve("bundle/META-INF/MANIFEST.MF"), "Bundle-Name: bundle");
+        write(workspace.resolve("bundle/MANIFEST.MF"), "Bundle-Name: other");
+
+        var facade = new LocalFileSystemFacade();
+
+        assertThat(facade.find(workspace, PATTERNS)).containsExactlyInAnyOrder(
+                "pom.xml", "module/pom.xml", "module/target/classes/pom.xml", "bundle/META-INF/MANIFEST.MF");
+        assertThat(new LocalFileSystemFacade(Set.of()).find(workspace, PATTERNS)).hasSize(6);
+        assertThat(new LocalFileSystemFacade(Set.of(".git", "node_modules", "target")).find(workspace, PATTERNS))
+                .containsExactlyInAnyOrder("pom.xml", "module/pom.xml", "bundle/META-INF/MANIFEST.MF");
+        assertThat(facade.getLastModified(workspace.resolve("pom.xml").toString())).isPositive();
+        assertThat(facade.getLastModified(workspace.resolve("missing.xml").toString())).isZero();
+    }
+
+    @Test
+    void shouldReuseCachedModulesIfProjectFilesAreUnchanged(@TempDir final Path workspace) throws IOException {
+        var pom = workspace.resolve("module/pom.xml");
+        createPom(pom, "cached");
+        var timestamp = FileTime.fromMillis(1_000_000L);
+        Files.setLastModifiedTime(pom, timestamp);
+        var cache = workspace.resolve("modules.properties");
+        var fileName = new PathUtil().getAbsolutePath(workspace.resolve("module/src/File.java"));
+
+        var facade = new LocalFileSystemFacade();
+        assertThat(new ModuleDetectorRunner(workspace, facade, cache).guessModuleName(fileName))
+                .isEqualTo("cached");
+        assertThat(cache).exists();
+
+        createPom(pom, "changed");
+        Files.setLastModifiedTime(pom, timestamp);
+        assertThat(new ModuleDetectorRunner(workspace, facade, cache).guessModuleName(fileName))
+                .as("Modification time did not change, so the cache is used")
+                .isEqualTo("cached");
+
+        Files.setLastModifiedTime(pom, FileTime.fromMillis(2_000_000L));
+        assertThat(new ModuleDetectorRunner(workspace, facade, cache).guessModuleName(fileName))
+                .isEqualTo("changed");
+        assertThat(new ModuleDetectorRunner(workspace, facade).guessModuleName(fileName))
+                .isEqualTo("changed");
+    }
+
+    @Test
+    void shouldDetectChangedLocalizationOfCachedOsgiBundles(@TempDir final Path workspace) throws IOException {
+        var manifest = workspace.resolve("bundle/META-INF/MANIFEST.MF");
+        write(manifest, "Bundle-Name: %name\n");
+        var properties = workspace.resolve("bundle/plugin.properties");
+        write(properties, "name=Cached Bundle");
+        var cache = workspace.resolve("modules.properties");
+        var fileName = new PathUtil().getAbsolutePath(workspace.resolve("bundle/src/File.java"));
+
+        var facade = new LocalFileSystemFacade();
+        assertThat(new ModuleDetectorRunner(workspace, facade, cache).guessModuleName(fileName))
+                .isEqualTo("Cached Bundle");
+
+        write(properties, "name=Changed Bundle");
+        Files.setLastModifiedTime(properties, FileTime.fromMillis(2_000_000L));
+        assertThat(new ModuleDetectorRunner(workspace, facade, cache).guessModuleName(fileName))
+                .isEqualTo("Changed Bundle");
+
+        write(workspace.resolve("bundle/OSGI-INF/l10n/bundle.properties"), "name=Localized Bundle");
+        assertThat(new ModuleDetectorRunner(workspace, facade, cache).guessModuleName(fileName))
+                .as("New localization file invalidates the cache")
+                .isEqualTo("Localized Bundle");
+    }
+
+    private void createPom(final Path file, final String name) throws IOException {
+        write(file, "<project><name>" + name + "</name></project>");
+    }
+
+    private void write(final Path file, final String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+    }
+}
@@ -56,6 +56,28 @@ class ModuleDetectorTest extends ResourceTest {
                 .isEqualTo(EXPECTED_MAVEN_MODULE);
     }
 
+    @Test
+    void shouldUseInnermostModule() {
+        var factory = createFileSystemStub(stub -> {
+            var ant = "path/to/" + AntModuleDetector.ANT_PROJECT;
+            var maven = PATH_PREFIX_MAVEN + MavenModuleDetector.MAVEN_POM;
+            when(stub.find(any(), anyString())).thenReturn(List.of(ant, maven));
+            when(stub.open(PREFIX + ant)).thenAnswer(fileName -> read(AntModuleDetector.ANT_PROJECT));
+            when(stub.open(PREFIX + maven)).thenAnswer(filename -> read(MavenModuleDetector.MAVEN_POM));
+        });
+
+        var detector = new ModuleDetectorRunner(ROOT, factory);
+
+        assertThat(detector.guessModuleName(PREFIX + PATH_PREFIX_MAVEN + "deep/in/module/something.txt"))
+                .isEqualTo(EXPECTED_MAVEN_MODULE);
+        assertThat(detector.guessModuleName(PREFIX + "path/to/mavenized/something.txt"))
+                .isEqualTo(EXPECTED_ANT_MODULE);
+        assertThat(detector.guessModuleName(PREFIX + "path/to/something.txt"))
+                .isEqualTo(EXPECTED_ANT_MODULE);
+        assertThat(detector.guessModuleName(PREFIX + "path/something.txt")).isEmpty();
+        assertThat(detector.guessModuleName("/something.txt")).isEmpty();
+    }
+
     @Test
     void shouldEnsureThatMavenHasPrecedenceOverAnt() {
         var prefix = "/prefix/";
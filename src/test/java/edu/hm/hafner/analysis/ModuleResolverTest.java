@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import static edu.hm.hafner.analysis.assertions.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 /**
@@ -39,4 +40,27 @@ class ModuleResolverTest {
             assertThat(report.getInfoMessages()).contains("-> resolved module names for 1 issues");
         }
     }
+
+    @Test
+    void shouldGuessModuleNameOncePerFile() {
+        try (var builder = new IssueBuilder()) {
+            var report = new Report();
+            var fileName = "/file/with/warnings.txt";
+            builder.setFileName(fileName);
+            report.add(builder.setLineStart(1).build());
+            report.add(builder.setLineStart(2).build());
+            report.add(builder.setFileName("/other/file.txt").build());
+
+            var detector = mock(ModuleDetectorRunner.class);
+            when(detector.guessModuleName(anyString())).thenReturn("module");
+
+            var resolver = new ModuleResolver(detector);
+            resolver.run(report);
+
+            assertThat(report.get()).allSatisfy(issue -> assertThat(issue).hasModuleName("module"));
+            verify(detector).guessModuleName(fileName);
+            verify(detector).guessModuleName("/other/file.txt");
+            verifyNoMoreInteractions(detector);
+        }
+    }
 }
@@ -0,0 +1,95 @@
+package edu.hm.hafner.analysis;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.hm.hafner.analysis.parser.AntJavacParser;
+import edu.hm.hafner.analysis.parser.Gcc4CompilerParser;
+import edu.hm.hafner.analysis.parser.JavacParser;
+import edu.hm.hafner.analysis.parser.MsBuildParser;
+import edu.hm.hafner.util.ResourceTest;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link MultiLookaheadParser}.
+ *
+ * @author Ullrich Hafner
+ */
+class MultiLookaheadParserTest extends ResourceTest {
+    private static final String[] LOGS = {"gcc4.txt", "gnuMakeGcc.txt", "javac.txt", "ant-javac.txt", "msbuild.txt"};
+
+    @Test
+    void shouldCreateSameReportsAsIndividualParsers(@TempDir final Path folder) throws IOException {
+        var log = createConsoleLog(folder);
+
+        var reports = new MultiLookaheadParser(createParsers()).parse(new FileReaderFactory(log));
+
+        assertThat(reports).containsOnlyKeys("gcc", "gnu-make", "javac", "ant", "msbuild");
+        for (LookaheadParser parser : createParsers()) {
+            var expected = parser.parse(new FileReaderFactory(log));
+
+            assertThat(expected).isNotEmpty();
+            assertThat(reports).hasEntrySatisfying(parser.getId(), actual -> {
+                assertThat(actual).hasId(parser.getId()).hasSize(expected.size());
+                assertThat(actual.get()).containsExactlyElementsOf(expected.get());
+                assertThat(actual.get()).extracting(Issue::getFileName)
+                        .containsExactlyElementsOf(expected.get().stream().map(Issue::getFileName).toList());
+            });
+        }
+    }
+
+    @Test
+    void shouldCancelParsingIfThreadHasBeenInterrupted(@TempDir final Path folder) throws IOException {
+        var log = createConsoleLog(folder);
+        var parser = new MultiLookaheadParser(createParsers());
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThatExceptionOfType(ParsingCanceledException.class)
+                    .isThrownBy(() -> parser.parse(new FileReaderFactory(log)));
+        }
+        finally {
+            Thread.interrupted(); // clear the flag if the parser did not consume it
+        }
+    }
+
+    @Test
+    void shouldRejectParsersWithSameId() {
+        var first = new JavacParser();
+        var second = new Gcc4CompilerParser();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> new MultiLookaheadParser(List.of(first, second)))
+                .withMessageContaining(Report.DEFAULT_ID);
+    }
+
+    private List<LookaheadParser> createParsers() {
+        var gcc = new Gcc4CompilerParser();
+        gcc.setId("gcc");
+        var make = new Gcc4CompilerParser();
+        make.setId("gnu-make");
+        var javac = new JavacParser();
+        javac.setId("javac");
+        var ant = new AntJavacParser();
+        ant.setId("ant");
+        var msBuild = new MsBuildParser();
+        msBuild.setId("msbuild");
+        return List.of(gcc, make, javac, ant, msBuild);
+    }
+
+    private Path createConsoleLog(final Path folder) throws IOException {
+        var content = new ByteArrayOutputStream();
+        for (String log : LOGS) {
+            content.write(readAllBytes("parser/" + log));
+        }
+        var log = folder.resolve("console.log");
+        Files.write(log, content.toByteArray());
+        return log;
+    }
+}
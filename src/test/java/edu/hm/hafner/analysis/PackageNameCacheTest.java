@@ -0,0 +1,147 @@
+package edu.hm.hafner.analysis;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link PackageNameCache}.
+ *
+ * @author Ullrich Hafner
+ */
+class PackageNameCacheTest {
+    @Test
+    void shouldResolvePackageNamesFromCacheIfFilesAreUnchanged(@TempDir final Path folder) throws IOException {
+        var source = folder.resolve("Source.java");
+        Files.writeString(source, "package edu.hm.hafner;", StandardCharsets.UTF_8);
+        var noPackage = folder.resolve("NoPackage.java");
+        Files.writeString(noPackage, "class NoPackage {}", StandardCharsets.UTF_8);
+        var cacheFile = folder.resolve("packages.cache");
+
+        var cache = new PackageNameCache(cacheFile);
+        var report = createReport(source, noPackage);
+        new PackageNameResolver(cache).run(report, StandardCharsets.UTF_8);
+
+        assertThat(report.get(0)).hasPackageName("edu.hm.hafner");
+        assertThat(report.get(1)).hasPackageName("-");
+        assertThat(cache.getHits()).isZero();
+        assertThat(cache.getMisses()).isEqualTo(2);
+        assertThat(cacheFile).exists();
+
+        var restored = new PackageNameCache(cacheFile);
+        assertThat(restored.size()).isEqualTo(2);
+        var cachedReport = createReport(source, noPackage);
+        new PackageNameResolver(restored).run(cachedReport, StandardCharsets.UTF_8);
+
+        assertThat(cachedReport.get(0)).hasPackageName("edu.hm.hafner");
+        assertThat(cachedReport.get(1)).hasPackageName("-");
+        assertThat(restored.getHits()).isEqualTo(2);
+        assertThat(restored.getMisses()).isZero();
+        assertThat(cachedReport.getInfoMessages()).contains("-> package name cache: 2 hits, 0 misses");
+
+        Files.writeString(source, "package edu.hm.hafner.analysis;", StandardCharsets.UTF_8);
+        var modifiedReport = createReport(source);
+        new PackageNameResolver(restored).run(modifiedReport, StandardCharsets.UTF_8);
+
+        assertThat(modifiedReport.get(0)).hasPackageName("edu.hm.hafner.analysis");
+        assertThat(restored.getHits()).isEqualTo(2);
+        assertThat(restored.getMisses()).isEqualTo(1);
+        assertThat(modifiedReport.getInfoMessages()).contains("-> package name cache: 0 hits, 1 misses");
+    }
+
+    @Test
+    void shouldReadFilesAgainIfCharsetHasBeenChanged(@TempDir final Path folder) throws IOException {
+        var file = createFile(folder, "File.java");
+
+        var cache = new PackageNameCache(folder.resolve("packages.cache"));
+        assertThat(cache.computeIfAbsent(file, StandardCharsets.UTF_8, () -> "utf-8")).isEqualTo("utf-8");
+        assertThat(cache.computeIfAbsent(file, StandardCharsets.UTF_8, () -> "ignored")).isEqualTo("utf-8");
+        assertThat(cache.computeIfAbsent(file, StandardCharsets.UTF_16, () -> "utf-16")).isEqualTo("utf-16");
+        assertThat(cache.computeIfAbsent(file, StandardCharsets.UTF_16, () -> "ignored")).isEqualTo("utf-16");
+
+        assertThat(cache.getHits()).isEqualTo(2);
+        assertThat(cache.getMisses()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotUseEntryIfFileHasBeenModifiedWhileReading(@TempDir final Path folder) throws IOException {
+        var file = createFile(folder, "File.java");
+
+        var cache = new PackageNameCache(folder.resolve("packages.cache"));
+        assertThat(cache.computeIfAbsent(file, StandardCharsets.UTF_8, () -> {
+            modify(Path.of(file));
+            return "old";
+        })).isEqualTo("old");
+
+        assertThat(cache.computeIfAbsent(file, StandardCharsets.UTF_8, () -> "new")).isEqualTo("new");
+        assertThat(cache.getHits()).isZero();
+        assertThat(cache.getMisses()).isEqualTo(2);
+    }
+
+    private void modify(final Path file) {
+        try {
+            Files.writeString(file, "package modified;", StandardCharsets.UTF_8);
+            Files.setLastModifiedTime(file, FileTime.fromMillis(
+                    Files.getLastModifiedTime(file).toMillis() + 10_000));
+        }
+        catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedFiles(@TempDir final Path folder) throws IOException {
+        var first = createFile(folder, "First.java");
+        var second = createFile(folder, "Second.java");
+        var third = createFile(folder, "Third.java");
+
+        var cache = new PackageNameCache(folder.resolve("packages.cache"), 2);
+        assertThat(cache.computeIfAbsent(first, StandardCharsets.UTF_8, () -> "first")).isEqualTo("first");
+        assertThat(cache.computeIfAbsent(second, StandardCharsets.UTF_8, () -> "second")).isEqualTo("second");
+        assertThat(cache.computeIfAbsent(first, StandardCharsets.UTF_8, () -> "ignored")).isEqualTo("first");
+
+        assertThat(cache.computeIfAbsent(third, StandardCharsets.UTF_8, () -> "third")).isEqualTo("third");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.computeIfAbsent(first, StandardCharsets.UTF_8, () -> "ignored")).isEqualTo("first");
+        assertThat(cache.computeIfAbsent(second, StandardCharsets.UTF_8, () -> "evicted")).isEqualTo("evicted");
+    }
+
+    @Test
+    void shouldIgnoreBrokenCacheFile(@TempDir final Path folder) throws IOException {
+        var cacheFile = folder.resolve("packages.cache");
+        Files.writeString(cacheFile, "broken", StandardCharsets.UTF_8);
+
+        var cache = new PackageNameCache(cacheFile);
+        assertThat(cache.size()).isZero();
+
+        cache.computeIfAbsent(createFile(folder, "File.java"), StandardCharsets.UTF_8, () -> "package");
+        cache.store();
+
+        assertThat(new PackageNameCache(cacheFile).size()).isEqualTo(1);
+    }
+
+    private String createFile(final Path folder, final String name) throws IOException {
+        var file = folder.resolve(name);
+        Files.writeString(file, name, StandardCharsets.UTF_8);
+        return file.toString();
+    }
+
+    private Report createReport(final Path... files) {
+        try (var builder = new IssueBuilder()) {
+            var report = new Report();
+            for (Path file : files) {
+                report.add(builder.setFileName(file.toString()).build());
+            }
+            return report;
+        }
+    }
+}
@@ -3,7 +3,14 @@ package edu.hm.hafner.analysis;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import org.apache.commons.io.file.PathUtils;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
@@ -12,6 +19,7 @@ import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 
 import edu.hm.hafner.util.PackageDetectorFactory;
 import edu.hm.hafner.util.PackageDetectorFactory.FileSystemFacade;
@@ -43,6 +51,29 @@ public class PackageNameResolverBenchmark extends AbstractBenchmark {
         resolver.run(state.getReport(), StandardCharsets.UTF_8);
     }
 
+    /**
+     * Benchmarking the {@link PackageNameResolver} with 1000 source files that are read sequentially.
+     *
+     * @param state
+     *         a {@link SourceFilesState} object containing the source files
+     */
+    @Benchmark
+    public void benchmarkSequentialDetection(final SourceFilesState state) {
+        new PackageNameResolver().run(state.createReport(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Benchmarking the {@link PackageNameResolver} with 1000 source files that are read in parallel by a limited
+     * number of threads.
+     *
+     * @param state
+     *         a {@link SourceFilesState} object containing the source files
+     */
+    @Benchmark
+    public void benchmarkParallelDetection(final SourceFilesState state) {
+        new PackageNameResolver(state.getExecutor()).run(state.createReport(), StandardCharsets.UTF_8);
+    }
+
     private FileSystemFacade createFileSystemStub() throws IOException {
         var fileSystemStub = mock(FileSystemFacade.class);
         when(fileSystemStub.openFile(FILE_NO_PACKAGE)).thenAnswer(
@@ -76,4 +107,67 @@ public class PackageNameResolverBenchmark extends AbstractBenchmark {
             }
         }
     }
+
+    /**
+     * State for the benchmark containing source files on disk and the executor to read them. The files are in the
+     * page cache after the first iteration: so the parallel detection only pays off on machines with several cores or
+     * on file systems with a high latency.
+     */
+    @State(Scope.Benchmark)
+    public static class SourceFilesState {
+        private static final int FILES = 1000;
+        private static final int THREADS = 8;
+
+        private final List<String> fileNames = new ArrayList<>();
+        private Path folder = Path.of(".");
+        private final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        public ExecutorService getExecutor() {
+            return executor;
+        }
+
+        /**
+         * Creates a new report with issues in all source files.
+         *
+         * @return the report
+         */
+        public Report createReport() {
+            try (var issueBuilder = new IssueBuilder()) {
+                var report = new Report();
+                for (String fileName : fileNames) {
+                    report.add(issueBuilder.setFileName(fileName).build());
+                }
+                return report;
+            }
+        }
+
+        /**
+         * Creates the source files.
+         *
+         * @throws IOException
+         *         if the files can't be created
+         */
+        @Setup(Level.Trial)
+        public void doSetup() throws IOException {
+            folder = Files.createTempDirectory("package-name-resolver");
+            var header = "// license header\n".repeat(100);
+            for (int i = 0; i < FILES; i++) {
+                var file = folder.resolve("Source" + i + ".java");
+                Files.writeString(file, header + "package edu.hm.hafner.p" + i % 10 + ";\n", StandardCharsets.UTF_8);
+                fileNames.add(file.toString());
+            }
+        }
+
+        /**
+         * Removes the source files and shuts down the executor.
+         *
+         * @throws IOException
+         *         if the files can't be deleted
+         */
+        @TearDown(Level.Trial)
+        public void doTearDown() throws IOException {
+            executor.shutdown();
+            PathUtils.deleteDirectory(folder);
+        }
+    }
 }
@@ -3,8 +3,12 @@ package edu.hm.hafner.analysis;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import edu.hm.hafner.util.PackageDetectorFactory;
 import edu.hm.hafner.util.PackageDetectorFactory.FileSystemFacade;
@@ -91,4 +95,33 @@ class PackageNameResolverTest {
     private Report createIssues() {
         return new Report();
     }
+
+    @Test
+    void shouldReadFilesInParallel(@TempDir final Path folder) throws IOException {
+        var first = folder.resolve("First.java");
+        Files.writeString(first, "package first;", StandardCharsets.UTF_8);
+        var second = folder.resolve("Second.java");
+        Files.writeString(second, "// header\npackage second;", StandardCharsets.UTF_8);
+        var none = folder.resolve("None.java");
+        Files.writeString(none, "class None {}", StandardCharsets.UTF_8);
+
+        var report = new Report();
+        try (var builder = new IssueBuilder()) {
+            report.add(builder.setFileName(first.toString()).build());
+            report.add(builder.setFileName(second.toString()).build());
+            report.add(builder.setFileName(none.toString()).build());
+        }
+
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            new PackageNameResolver(executor).run(report, StandardCharsets.UTF_8);
+        }
+        finally {
+            executor.shutdown();
+        }
+
+        assertThat(report.get(0)).hasPackageName("first");
+        assertThat(report.get(1)).hasPackageName("second");
+        assertThat(report.get(2)).hasPackageName("-");
+    }
 }
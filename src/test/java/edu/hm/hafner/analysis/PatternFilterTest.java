@@ -0,0 +1,83 @@
+package edu.hm.hafner.analysis;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link PatternFilter}.
+ *
+ * @author Ullrich Hafner
+ */
+class PatternFilterTest {
+    private static final String[] TEXTS = {
+            "", "src/main/java/Example.java", "generated/Parser.java", "a.b", "axb", "Example", "line one\nline two",
+            "abcabc", "ABC", ".*", "some\\path", "^caret", "endswith.*", "Example\n", "Example\r\n", "Example\n\n",
+            "Example\r", "Example\u2028", "Example\n\r", "price$", "Parser.java\r\n"};
+
+    @ParameterizedTest(name = "[{index}] Expression {0}")
+    @ValueSource(strings = {"", ".*", "Example", ".*Example.*", "^src", "^src.*", ".*^src", "a\\.b", ".*\\.java",
+            "a.b", "\\.*", "endswith\\.\\*", "^\\^caret", "some\\\\path", "(abc)\\1", "(?i)abc", "\\QA.B\\E",
+            "(?<name>abc)\\k<name>", "line one.line two", "one$", "^$", "[a-z]+\\.java", "a|b", "(?x) a b c # comment",
+            "two$", "\\.java$", ".*\\.java$", "^Example$", "^.*Example$", "Example$", "\\$", "price\\$", "price\\$$",
+            "^src.*\\.java$", "$", ".*$"})
+    void shouldBehaveLikeRegularExpression(final String expression) {
+        var filter = new PatternFilter(List.of(expression));
+        var pattern = Pattern.compile(expression, Pattern.DOTALL);
+
+        for (String text : TEXTS) {
+            assertThat(filter.find(text)).as("Expression '%s' on '%s'", expression, text)
+                    .isEqualTo(pattern.matcher(text).find());
+        }
+    }
+
+    @Test
+    void shouldCombineSeveralExpressions() {
+        var expressions = List.of("(abc)\\1", "(?i)abc", "[0-9]+", "Example", "^src", "(?<name>x)\\k<name>");
+        var filter = new PatternFilter(expressions);
+
+        for (String text : TEXTS) {
+            assertThat(filter.find(text)).as("Text '%s'", text).isEqualTo(
+                    expressions.stream().anyMatch(e -> Pattern.compile(e, Pattern.DOTALL).matcher(text).find()));
+        }
+        assertThat(filter.find("123")).isTrue();
+        assertThat(filter.find("xx")).isTrue();
+        assertThat(filter.find("xy")).isFalse();
+    }
+
+    @Test
+    void shouldMatchMessageAndDescriptionWithoutConcatenation() {
+        var separator = System.lineSeparator();
+
+        assertThat(new PatternFilter(List.of("message")).find("message", "description")).isTrue();
+        assertThat(new PatternFilter(List.of("description")).find("message", "description")).isTrue();
+        assertThat(new PatternFilter(List.of("^description")).find("message", "description")).isFalse();
+        assertThat(new PatternFilter(List.of("^mess")).find("message", "description")).isTrue();
+        assertThat(new PatternFilter(List.of("message.description")).find("message", "description"))
+                .isEqualTo(separator.length() == 1);
+        assertThat(new PatternFilter(List.of("message\\s+description")).find("message", "description")).isTrue();
+        assertThat(new PatternFilter(List.of("message\\s+description")).find("message", "other")).isFalse();
+        assertThat(new PatternFilter(List.of("^message$")).find("message", "description")).isFalse();
+        assertThat(new PatternFilter(List.of("ge$")).find("description", "message")).isTrue();
+        assertThat(new PatternFilter(List.of("description$")).find("message", "description")).isTrue();
+        assertThat(new PatternFilter(List.of("message$")).find("message", "description")).isFalse();
+        assertThat(new PatternFilter(List.of("message$")).find("message", "")).isTrue();
+        assertThat(new PatternFilter(List.of("^message$")).find("message", "")).isTrue();
+        assertThat(new PatternFilter(List.of("^description$")).find("", "description")).isFalse();
+        assertThat(new PatternFilter(List.of("(?s)message.+description", "other"))
+                .find("message", "description")).isTrue();
+    }
+
+    @Test
+    void shouldFailForInvalidExpressions() {
+        var expressions = List.of("valid", "[invalid");
+
+        assertThatExceptionOfType(PatternSyntaxException.class).isThrownBy(() -> new PatternFilter(expressions));
+    }
+}
@@ -0,0 +1,111 @@
+package edu.hm.hafner.analysis;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH Benchmarking the reading of large console logs with and without ANSI color codes using the
+ * {@link ReaderFactory}.
+ *
+ * @author Ullrich Hafner
+ */
+@SuppressWarnings("NewClassNamingConvention")
+public class ReaderFactoryBenchmark extends AbstractBenchmark {
+    /**
+     * Benchmarking the reading of a console log: ANSI color codes are removed from every line.
+     *
+     * @param state
+     *         a {@link LogState} object containing the log
+     * @param blackhole
+     *         the black hole that will consume the read lines
+     */
+    @Benchmark
+    public void benchmarkReadStream(final LogState state, final Blackhole blackhole) {
+        try (var lines = state.createFactory().readStream()) {
+            lines.forEach(blackhole::consume);
+        }
+    }
+
+    /**
+     * Benchmarking the reading of a structured file: the lines are not mapped at all.
+     *
+     * @param state
+     *         a {@link LogState} object containing the log
+     * @param blackhole
+     *         the black hole that will consume the read lines
+     */
+    @Benchmark
+    public void benchmarkReadStructuredStream(final LogState state, final Blackhole blackhole) {
+        try (var lines = state.createFactory().readStructuredStream()) {
+            lines.forEach(blackhole::consume);
+        }
+    }
+
+    /**
+     * State for the benchmark containing a large log file on disk.
+     */
+    @State(Scope.Benchmark)
+    public static class LogState {
+        private static final int LINES = 100_000;
+
+        @Param({"clean", "colored"})
+        private String content = "clean";
+
+        private Path log = Path.of(".");
+
+        /**
+         * Creates a new factory for the log file.
+         *
+         * @return the factory
+         */
+        public ReaderFactory createFactory() {
+            return new FileReaderFactory(log, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Creates the log file.
+         *
+         * @throws IOException
+         *         if the file can't be created
+         */
+        @Setup(Level.Trial)
+        public void doSetup() throws IOException {
+            var colored = "colored".equals(content);
+            var builder = new StringBuilder();
+            for (int i = 0; i < LINES; i++) {
+                if (colored) {
+                    builder.append("\u001B[1;33m[WARNING]\u001B[m ");
+                }
+                else {
+                    builder.append("[WARNING] ");
+                }
+                builder.append("/path/to/src/File").append(i).append(".java:[")
+                        .append(i % 500).append(",20] deprecated API is used\n");
+            }
+            log = Files.createTempFile("console", ".log");
+            Files.writeString(log, builder, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Removes the log file.
+         *
+         * @throws IOException
+         *         if the file can't be deleted
+         */
+        @TearDown(Level.Trial)
+        public void doTearDown() throws IOException {
+            Files.delete(log);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package edu.hm.hafner.analysis;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.analysis.Report.IssueType;
+import edu.hm.hafner.util.LineRange;
+import edu.hm.hafner.util.LineRangeList;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link ReportCodec}.
+ *
+ * @author Ullrich Hafner
+ */
+class ReportCodecTest {
+    private static final String FILE_NAME = "/workspace/src/main/java/edu/hm/hafner/analysis/ReportCodec.java";
+
+    @Test
+    void shouldWriteAndReadEmptyReport() {
+        var codec = new ReportCodec();
+        var report = new Report();
+
+        assertThat(codec.fromBytes(codec.toBytes(report))).isEqualTo(report);
+    }
+
+    @Test
+    void shouldWriteAndReadAllPropertiesOfReportsAndIssues() throws IOException {
+        var report = createReport();
+
+        var codec = new ReportCodec();
+        var output = new ByteArrayOutputStream();
+        codec.write(report, output);
+        var restored = codec.read(new ByteArrayInputStream(output.toByteArray()));
+
+        assertThat(restored).isEqualTo(report);
+        assertThat(restored.getDuplicatesSize()).isEqualTo(report.getDuplicatesSize());
+        assertThat(restored.getSubReports()).hasSize(2);
+        assertThat(restored.getSubReports().get(0).getElementType()).isEqualTo(IssueType.BUG);
+        assertThat(restored.getCounter("counter")).isEqualTo(42);
+        assertThat(restored.getInfoMessages()).containsExactly("info");
+        assertThat(restored.getErrorMessages()).containsExactly("error");
+
+        var issues = report.get().toArray(new Issue[0]);
+        var restoredIssues = restored.get().toArray(new Issue[0]);
+        for (int i = 0; i < issues.length; i++) {
+            assertThat(restoredIssues[i]).isEqualTo(issues[i])
+                    .hasId(issues[i].getId())
+                    .hasFingerprint(issues[i].getFingerprint())
+                    .hasReference(issues[i].getReference());
+        }
+    }
+
+    @Test
+    void shouldStoreRepeatedStringsOnlyOnce() {
+        try (var builder = new IssueBuilder()) {
+            var report = new Report();
+            builder.setFileName(FILE_NAME).setPackageName("edu.hm.hafner.analysis").setCategory("Category");
+            for (int i = 0; i < 1000; i++) {
+                report.add(builder.setLineStart(i).setMessage("Message " + i % 10).build());
+            }
+
+            var bytes = new ReportCodec().toBytes(report);
+
+            assertThat(bytes.length).isLessThan(report.size() * 50);
+            assertThat(new ReportCodec().fromBytes(bytes)).isEqualTo(report);
+        }
+    }
+
+    @Test
+    void shouldRejectInvalidInput() {
+        var codec = new ReportCodec();
+
+        assertThatExceptionOfType(StreamCorruptedException.class)
+                .isThrownBy(() -> codec.read(new ByteArrayInputStream(new byte[] {1, 2, 3, 4})));
+
+        var bytes = codec.toBytes(new Report());
+        bytes[4] = 99; // version
+        assertThatIllegalStateException().isThrownBy(() -> codec.fromBytes(bytes))
+                .withCauseInstanceOf(StreamCorruptedException.class);
+
+        var valid = codec.toBytes(createReport());
+        var truncated = Arrays.copyOf(valid, valid.length / 2);
+        assertThatIllegalStateException().isThrownBy(() -> codec.fromBytes(truncated));
+    }
+
+    @Test
+    void shouldNotAllocateMoreMemoryThanProvidedByTheInput() throws IOException {
+        var output = new ByteArrayOutputStream();
+        var data = new DataOutputStream(output);
+        data.write(new ReportCodec().toBytes(new Report()), 0, 5); // magic number and version
+        var encoder = new ReportCodec.Encoder(data);
+        encoder.writeInt(0); // size
+        encoder.writeInt(0); // severities
+        encoder.writeInt(0); // new string
+        encoder.writeInt(Integer.MAX_VALUE); // corrupt length of string
+        data.write(new byte[100]);
+        data.flush();
+
+        assertThatIllegalStateException().isThrownBy(() -> new ReportCodec().fromBytes(output.toByteArray()))
+                .withCauseInstanceOf(EOFException.class);
+    }
+
+    @Test
+    void shouldRejectAdditionalPropertiesThatAreNotAllowed() {
+        var codec = new ReportCodec();
+        var report = createReportWithAdditionalProperties(new File("file.txt"));
+
+        assertThatIllegalStateException().isThrownBy(() -> codec.fromBytes(codec.toBytes(report)))
+                .withCauseInstanceOf(InvalidClassException.class);
+
+        var allowed = createReportWithAdditionalProperties(new LineRange(1, 2));
+        assertThat(codec.fromBytes(codec.toBytes(allowed))).isEqualTo(allowed);
+    }
+
+    @Test
+    @SuppressWarnings("BanSerializableRead")
+    void shouldReadAdditionalPropertiesWithEnclosingSerializationStream() throws IOException, ClassNotFoundException {
+        var report = createReportWithAdditionalProperties(new File("file.txt"));
+
+        var bytes = new ByteArrayOutputStream();
+        try (var output = new ObjectOutputStream(bytes)) {
+            output.writeObject(report);
+        }
+
+        try (var input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertThat(input.readObject()).isEqualTo(report);
+        }
+        try (var input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            input.setObjectInputFilter(info -> info.serialClass() == File.class
+                    ? ObjectInputFilter.Status.REJECTED : ObjectInputFilter.Status.UNDECIDED);
+
+            assertThatExceptionOfType(InvalidClassException.class).isThrownBy(input::readObject);
+        }
+    }
+
+    private Report createReportWithAdditionalProperties(final Serializable additionalProperties) {
+        try (var builder = new IssueBuilder()) {
+            var report = new Report();
+            report.add(builder.setFileName(FILE_NAME).setAdditionalProperties(additionalProperties).build());
+            return report;
+        }
+    }
+
+    private Report createReport() {
+        try (var builder = new IssueBuilder()) {
+            var checkstyle = new Report("checkstyle", "CheckStyle", "checkstyle.xml", IssueType.BUG);
+            checkstyle.add(builder.setFileName(FILE_NAME)
+                    .setLineStart(-1).setLineEnd(Integer.MAX_VALUE)
+                    .setColumnStart(1).setColumnEnd(200)
+                    .setLineRanges(new LineRangeList(new LineRange(5, 10), new LineRange(100_000, 100_001)))
+                    .setCategory("Category").setType("Type")
+                    .setPackageName("edu.hm.hafner").setModuleName("analysis-model")
+                    .setSeverity(Severity.ERROR)
+                    .setMessage("Message with umlauts: äöü and emoji 😀").setDescription("<p>Description</p>")
+                    .setReference("reference").setFingerprint("fingerprint")
+                    .setAdditionalProperties(new LineRange(1, 2))
+                    .build());
+            checkstyle.add(builder.setLineStart(2).setLineRanges(new LineRangeList())
+                    .setMessage(String.valueOf(new char[70_000]))
+                    .setAdditionalProperties(null).build());
+            checkstyle.add(builder.build()); // duplicate
+            checkstyle.logInfo("info");
+            checkstyle.logError("error");
+            checkstyle.setCounter("counter", 42);
+
+            var spotBugs = new Report("spotbugs", "SpotBugs");
+            spotBugs.add(builder.setMessage("Message").setLineStart(3).build());
+
+            var report = new Report();
+            report.addAll(checkstyle, spotBugs);
+            return report;
+        }
+    }
+}
@@ -22,6 +22,8 @@ public class ReportSerializationBenchmark extends AbstractBenchmark {
     private static final int ISSUE_COUNT = 1000;
     private static final Report REPORT = createReportWith(ISSUE_COUNT);
     private static final byte[] REPORT_AS_BYTES = toByteArray(REPORT);
+    private static final ReportCodec CODEC = new ReportCodec();
+    private static final byte[] REPORT_AS_BINARY_FORMAT = CODEC.toBytes(REPORT);
 
     /**
      * Benchmarking the serialization of {@link Report}.
@@ -45,6 +47,28 @@ public class ReportSerializationBenchmark extends AbstractBenchmark {
         blackhole.consume(toReport(REPORT_AS_BYTES));
     }
 
+    /**
+     * Benchmarking the writing of {@link Report} using the standalone {@link ReportCodec}.
+     *
+     * @param blackhole
+     *         the black hole that will consume the written bytes
+     */
+    @Benchmark
+    public void benchmarkingReportCodecWriting(final Blackhole blackhole) {
+        blackhole.consume(CODEC.toBytes(REPORT));
+    }
+
+    /**
+     * Benchmarking the reading of {@link Report} using the standalone {@link ReportCodec}.
+     *
+     * @param blackhole
+     *         the black hole that will consume the created report
+     */
+    @Benchmark
+    public void benchmarkingReportCodecReading(final Blackhole blackhole) {
+        blackhole.consume(CODEC.fromBytes(REPORT_AS_BINARY_FORMAT));
+    }
+
     private static Report createReportWith(final int number) {
         try (var builder = new IssueBuilder()) {
             var report = new Report();
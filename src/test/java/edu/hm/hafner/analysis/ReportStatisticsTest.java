@@ -0,0 +1,68 @@
+package edu.hm.hafner.analysis;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link ReportStatistics}.
+ *
+ * @author Ullrich Hafner
+ */
+class ReportStatisticsTest {
+    @Test
+    void shouldCreateEmptyStatistics() {
+        var statistics = new ReportStatistics(List.of());
+
+        assertThat(statistics.getSize()).isZero();
+        assertThat(statistics.getSizeOf(Severity.ERROR)).isZero();
+        assertThat(statistics.getSeverities()).isEmpty();
+        assertThat(statistics.getModules()).isEmpty();
+        assertThat(statistics.getPackages()).isEmpty();
+        assertThat(statistics.getFiles()).isEmpty();
+        assertThat(statistics.getCategories()).isEmpty();
+        assertThat(statistics.getTypes()).isEmpty();
+        assertThat(statistics.getTools()).isEmpty();
+    }
+
+    @Test
+    void shouldCountAllPropertiesInSinglePass() {
+        try (var builder = new IssueBuilder()) {
+            builder.setOrigin("checkstyle").setModuleName("module-1").setPackageName("package-1");
+            var first = builder.setFileName("file-1").setCategory("category-1").setType("type-1")
+                    .setSeverity(Severity.WARNING_HIGH).build();
+            var second = builder.setFileName("file-2").setCategory("category-1").setType("type-2")
+                    .setSeverity(Severity.WARNING_NORMAL).build();
+            var third = builder.setOrigin("spotbugs").setModuleName("module-2").setPackageName("package-2")
+                    .setFileName("file-2").setCategory("category-2").setType("type-2")
+                    .setSeverity(Severity.WARNING_NORMAL).build();
+
+            var statistics = new ReportStatistics(List.of(first, second, third));
+
+            assertThat(statistics.getSize()).isEqualTo(3);
+            assertThat(statistics.getSizeOf(Severity.WARNING_HIGH)).isEqualTo(1);
+            assertThat(statistics.getSizeOf(Severity.WARNING_NORMAL)).isEqualTo(2);
+            assertThat(statistics.getSizeOf(Severity.WARNING_LOW)).isZero();
+            assertThat(statistics.getSeverities())
+                    .containsExactlyInAnyOrder(Severity.WARNING_HIGH, Severity.WARNING_NORMAL);
+            assertThat(statistics.getCountsByModule()).containsOnly(entry("module-1", 2), entry("module-2", 1));
+            assertThat(statistics.getCountsByPackage()).containsOnly(entry("package-1", 2), entry("package-2", 1));
+            assertThat(statistics.getCountsByFile()).containsOnly(entry("file-1", 1), entry("file-2", 2));
+            assertThat(statistics.getCountsByCategory())
+                    .containsOnly(entry("category-1", 2), entry("category-2", 1));
+            assertThat(statistics.getCountsByType()).containsOnly(entry("type-1", 1), entry("type-2", 2));
+            assertThat(statistics.getCountsByTool()).containsOnly(entry("checkstyle", 2), entry("spotbugs", 1));
+            assertThat(statistics.getTools()).containsExactlyInAnyOrder("checkstyle", "spotbugs");
+            assertThat(statistics.getModules()).containsExactlyInAnyOrder("module-1", "module-2");
+            assertThat(statistics.getPackages()).containsExactlyInAnyOrder("package-1", "package-2");
+            assertThat(statistics.getFiles()).containsExactlyInAnyOrder("file-1", "file-2");
+            assertThat(statistics.getCategories()).containsExactlyInAnyOrder("category-1", "category-2");
+            assertThat(statistics.getTypes()).containsExactlyInAnyOrder("type-1", "type-2");
+
+            assertThatExceptionOfType(UnsupportedOperationException.class)
+                    .isThrownBy(() -> statistics.getFiles().clear());
+        }
+    }
+}
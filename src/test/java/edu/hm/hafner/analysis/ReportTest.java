@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.UUID;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -332,6 +333,11 @@ class ReportTest extends SerializableTest<Report> {
         assertThat(byFile.get("file-1")).hasSize(3);
         assertThat(byFile.get("file-2")).hasSize(2);
         assertThat(byFile.get("file-3")).hasSize(1);
+        assertThat(byFile.get("file-1").get()).containsExactly(HIGH, NORMAL_1, NORMAL_2);
+
+        Map<String, Report> byReflection = report.groupByProperty("fingerprint");
+        assertThat(byReflection).containsOnlyKeys("-");
+        assertThat(byReflection.get("-")).hasSize(6);
     }
 
     /**
@@ -439,6 +445,29 @@ class ReportTest extends SerializableTest<Report> {
         assertThat(inConstructor.getErrorMessages()).containsExactly("1 error", "2 error", "3 error");
     }
 
+    @Test
+    void shouldDetectDuplicatesOfAllAggregatedReports() {
+        var aggregation = new Report();
+        for (int i = 0; i < 10; i++) {
+            aggregation.addAll(new Report().addAll(allIssuesAsList()));
+        }
+        assertThat((Iterable<Issue>) aggregation).containsExactlyElementsOf(allIssuesAsList());
+        assertThat(aggregation.getSubReports()).hasSize(10);
+        assertThat(aggregation.getDuplicatesSize()).isEqualTo(9 * 6);
+
+        aggregation.add(HIGH);
+        assertThat(aggregation).hasSize(6).hasDuplicatesSize(9 * 6 + 1);
+
+        aggregation.addAll(new Report().addAll(NORMAL_1, NORMAL_2), new Report().addAll(NORMAL_1, NORMAL_2));
+        assertThat(aggregation).hasSize(6).hasDuplicatesSize(9 * 6 + 1 + 4);
+
+        aggregation.remove(NORMAL_1.getId());
+        aggregation.addAll(new Report().addAll(NORMAL_1, NORMAL_2));
+        assertThat(aggregation).hasSize(6).hasDuplicatesSize(9 * 6 + 1 + 4 + 1);
+        assertThat(aggregation.getSubReports()).last().satisfies(
+                last -> assertThat((Iterable<Issue>) last).containsExactly(NORMAL_1));
+    }
+
     @Test
     void shouldBeEmptyWhenCreated() {
         var report = new Report();
@@ -669,6 +698,151 @@ class ReportTest extends SerializableTest<Report> {
         assertThat(report.get(2)).isSameAs(NORMAL_2);
     }
 
+    @Test
+    void shouldKeepIndexUpToDateWhenReportIsModified() {
+        var checkstyle = new Report(CHECKSTYLE_ID, CHECKSTYLE_NAME);
+        checkstyle.addAll(HIGH, NORMAL_1);
+        var spotBugs = new Report(SPOTBUGS_ID, SPOTBUGS_NAME);
+        spotBugs.addAll(NORMAL_2, LOW_2_A);
+
+        var report = new Report();
+        report.addAll(checkstyle, spotBugs);
+        assertThatIndexMatchesIteration(report);
+        assertThat(report.findById(LOW_2_A.getId())).isSameAs(LOW_2_A);
+
+        report.add(LOW_2_B);
+        assertThatIndexMatchesIteration(report);
+        assertThat(report.get(0)).isSameAs(LOW_2_B);
+
+        report.addAll(new Report().addAll(LOW_FILE_3));
+        assertThatIndexMatchesIteration(report);
+        assertThat(report.get(5)).isSameAs(LOW_FILE_3);
+
+        assertThat(report.remove(NORMAL_2.getId())).isSameAs(NORMAL_2);
+        assertThat(report.remove(LOW_2_B.getId())).isSameAs(LOW_2_B);
+        assertThatIndexMatchesIteration(report);
+        assertThat(report.getSubReports().get(1)).hasSize(1);
+        assertThatThrownBy(() -> report.findById(NORMAL_2.getId())).isInstanceOf(NoSuchElementException.class);
+
+        report.getSubReports().get(0).remove(HIGH.getId()); // modification of a sub-report
+        assertThatIndexMatchesIteration(report);
+        assertThatThrownBy(() -> report.findById(HIGH.getId())).isInstanceOf(NoSuchElementException.class);
+
+        var restored = restore(toByteArray(report));
+        assertThatIndexMatchesIteration(restored);
+        restored.add(HIGH);
+        assertThatIndexMatchesIteration(restored);
+    }
+
+    private void assertThatIndexMatchesIteration(final Report report) {
+        var index = 0;
+        for (Issue issue : report) {
+            assertThat(report.get(index++)).isSameAs(issue);
+            assertThat(report.findById(issue.getId())).isSameAs(issue);
+        }
+        assertThat(index).isEqualTo(report.size());
+    }
+
+    @Test
+    void shouldCacheStatisticsUntilReportIsModified() {
+        var high = build(b -> b.setMessage("high").setFileName("file-1").setSeverity(Severity.WARNING_HIGH));
+        var normal = build(b -> b.setMessage("normal").setFileName("file-1").setSeverity(Severity.WARNING_NORMAL));
+        var checkstyle = new Report(CHECKSTYLE_ID, CHECKSTYLE_NAME);
+        checkstyle.addAll(high, normal);
+        var report = new Report();
+        report.addAll(checkstyle);
+
+        var statistics = report.getStatistics();
+        assertThat(statistics.getSize()).isEqualTo(2);
+        assertThat(statistics.getCountsBySeverity())
+                .containsOnly(entry(Severity.WARNING_HIGH, 1), entry(Severity.WARNING_NORMAL, 1));
+        assertThat(statistics.getCountsByFile()).containsOnly(entry("file-1", 2));
+        assertThat(statistics.getTools()).containsExactly(CHECKSTYLE_ID);
+        assertThat(report.getStatistics()).isSameAs(statistics);
+
+        report.add(build(b -> b.setMessage("low").setFileName("file-2").setSeverity(Severity.WARNING_LOW)));
+        assertThat(report.getStatistics()).isNotSameAs(statistics);
+        assertThat(report.getStatistics().getSize()).isEqualTo(report.size()).isEqualTo(3);
+        assertThat(report.getSizeOf(Severity.WARNING_LOW)).isEqualTo(1);
+        assertThat(report.getFiles()).containsExactlyInAnyOrder("file-1", "file-2");
+
+        report.getSubReports().get(0).remove(high.getId()); // modification of a sub-report
+        assertThat(report.getSizeOf(Severity.WARNING_HIGH)).isZero();
+        assertThat(report.getStatistics().getSize()).isEqualTo(report.size()).isEqualTo(2);
+        assertThat(report.getSeverities()).containsExactlyInAnyOrder(Severity.WARNING_NORMAL, Severity.WARNING_LOW);
+
+        report.setOrigin(SPOTBUGS_ID, SPOTBUGS_NAME);
+        assertThat(report.getTools()).containsExactly(SPOTBUGS_ID);
+
+        var issue = build(b -> b.setMessage("module").setFileName("file-4"));
+        report.add(issue);
+        assertThat(report.getModules()).containsExactly("-");
+        issue.setModuleName("module");
+        report.markAsModified();
+        assertThat(report.getModules()).containsExactlyInAnyOrder("-", "module");
+        assertThat(report.getStatistics().getCountsByModule()).containsOnly(entry("-", 2), entry("module", 1));
+    }
+
+    @Test
+    void shouldRehashReportsWhenIssuesAreModified() {
+        var issue = build(b -> b.setMessage("rehash").setFileName("file"));
+        var report = new Report().add(issue);
+        var copy = report.copy();
+        var aggregation = new Report();
+        aggregation.addAll(new Report().add(issue));
+        assertThat(aggregation.getModules()).containsExactly("-");
+
+        issue.setModuleName("module");
+
+        var equal = build(b -> b.setMessage("rehash").setFileName("file").setModuleName("module"));
+        for (Report container : List.of(report, copy, aggregation)) {
+            container.markAsModified();
+            container.add(equal);
+            assertThat(container.getDuplicatesSize()).isEqualTo(1);
+            assertThat(container.size()).isEqualTo(1);
+            assertThat(container.getModules()).containsExactly("module");
+            assertThat(container.remove(issue.getId())).isSameAs(issue);
+            assertThat(container).isEmpty();
+        }
+    }
+
+    @Test
+    void shouldMergeIssuesThatAreEqualAfterModification() {
+        var first = build(b -> b.setMessage("merge").setFileName("file").setModuleName("first"));
+        var second = build(b -> b.setMessage("merge").setFileName("file").setModuleName("second"));
+        var report = new Report().add(first).add(second);
+        assertThat(report).hasSize(2);
+
+        second.setModuleName("first");
+        report.markAsModified();
+
+        assertThat(report).hasSize(1).hasDuplicatesSize(1);
+        assertThat(report.get(0)).isSameAs(first);
+        assertThat(report.findById(first.getId())).isSameAs(first);
+        assertThat(report.getInfoMessages()).isEmpty();
+    }
+
+    @Test
+    void shouldRehashIssuesAfterChangingTheOrigin() {
+        var first = build(b -> b.setMessage("first"));
+        var second = build(b -> b.setMessage("second"));
+        var report = new Report().add(first).add(second);
+        assertThat(report.get(1)).isSameAs(second);
+
+        report.setOrigin(CHECKSTYLE_ID, CHECKSTYLE_NAME);
+
+        assertThat(report.findById(second.getId())).isSameAs(second);
+        try (var builder = new IssueBuilder()) {
+            report.add(builder.copy(second).setId(UUID.randomUUID()).build());
+        }
+        assertThat(report).hasSize(2).hasDuplicatesSize(1);
+
+        assertThat(report.remove(second.getId())).isSameAs(second);
+        assertThat(report).hasSize(1);
+        assertThat(report.get()).containsExactly(first);
+        assertThat(report.findById(first.getId())).isSameAs(first);
+    }
+
     @Test
     @SuppressFBWarnings("RV")
     void shouldThrowExceptionOnWrongIndex() {
@@ -0,0 +1,111 @@
+package edu.hm.hafner.analysis;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link StoredReport}.
+ *
+ * @author Ullrich Hafner
+ */
+class StoredReportTest {
+    @Test
+    void shouldProvideSummaryAndDecodeIssuesOnDemand(@TempDir final Path folder) throws IOException {
+        var report = createReport();
+
+        var stored = new StoredReport(store(folder, report));
+
+        assertThat(stored.getId()).isEqualTo(report.getId());
+        assertThat(stored.getName()).isEqualTo(report.getName());
+        assertThat(stored.size()).isEqualTo(report.size()).isEqualTo(6);
+        assertThat(stored.isEmpty()).isFalse();
+        assertThat(stored.getSizeOf(Severity.WARNING_HIGH)).isEqualTo(1);
+        assertThat(stored.getSizeOf(Severity.WARNING_NORMAL)).isEqualTo(2);
+        assertThat(stored.getSizeOf(Severity.WARNING_LOW)).isEqualTo(3);
+        assertThat(stored.getSizeOf(Severity.ERROR)).isZero();
+        assertThat(stored.getSeverities()).isEqualTo(report.getSeverities());
+
+        assertThat(stored).containsExactlyElementsOf(report);
+        assertThat(stored.stream()).containsExactlyElementsOf(report); // iterate a second time
+        assertThat(stored.toReport()).isEqualTo(report);
+    }
+
+    @Test
+    void shouldClearDictionaryWhenItIsFull(@TempDir final Path folder) throws IOException {
+        var report = new Report();
+        try (var builder = new IssueBuilder()) {
+            builder.setFileName("a.java");
+            for (int i = 0; i < ReportCodec.MAX_DICTIONARY_SIZE + 100; i++) {
+                report.add(builder.setMessage("Message " + i).setLineStart(i % 100).build());
+            }
+        }
+
+        var stored = new StoredReport(store(folder, report));
+
+        assertThat(stored).containsExactlyElementsOf(report);
+        assertThat(stored.toReport()).isEqualTo(report);
+    }
+
+    @Test
+    void shouldHandleEmptyReport(@TempDir final Path folder) throws IOException {
+        var stored = new StoredReport(store(folder, new Report("empty", "Empty")));
+
+        assertThat(stored.getId()).isEqualTo("empty");
+        assertThat(stored.getName()).isEqualTo("Empty");
+        assertThat(stored.size()).isZero();
+        assertThat(stored.isEmpty()).isTrue();
+        assertThat(stored.getSeverities()).isEmpty();
+
+        var iterator = stored.iterator();
+        assertThat(iterator.hasNext()).isFalse();
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(iterator::next);
+    }
+
+    @Test
+    void shouldRejectFilesWithOtherContent(@TempDir final Path folder) throws IOException {
+        var file = folder.resolve("other.bin");
+        Files.write(file, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+
+        assertThatExceptionOfType(StreamCorruptedException.class).isThrownBy(() -> new StoredReport(file));
+    }
+
+    private Path store(final Path folder, final Report report) throws IOException {
+        var file = folder.resolve("report.bin");
+        try (var output = Files.newOutputStream(file)) {
+            new ReportCodec().write(report, output);
+        }
+        return file;
+    }
+
+    private Report createReport() {
+        try (var builder = new IssueBuilder()) {
+            var empty = new Report("empty", "Empty");
+
+            var checkstyle = new Report("checkstyle", "CheckStyle");
+            checkstyle.add(builder.setFileName("a.java").setSeverity(Severity.WARNING_HIGH).setMessage("1").build());
+            checkstyle.add(builder.setSeverity(Severity.WARNING_NORMAL).setMessage("2").build());
+
+            var pmd = new Report("pmd", "PMD");
+            pmd.add(builder.setFileName("b.java").setSeverity(Severity.WARNING_LOW).setMessage("3").build());
+            var nested = new Report("nested", "Nested");
+            nested.addAll(empty, pmd);
+
+            var spotBugs = new Report("spotbugs", "SpotBugs");
+            spotBugs.add(builder.setSeverity(Severity.WARNING_NORMAL).setMessage("4").build());
+            spotBugs.add(builder.setSeverity(Severity.WARNING_LOW).setMessage("5").build());
+
+            var report = new Report("aggregation", "Aggregation");
+            report.add(builder.setFileName("c.java").setSeverity(Severity.WARNING_LOW).setMessage("6").build());
+            report.addAll(empty, checkstyle, nested, spotBugs);
+            return report;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package edu.hm.hafner.analysis;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.analysis.StreamingIssueDifference.DifferenceListener;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link StreamingIssueDifference}.
+ *
+ * @author Ullrich Hafner
+ */
+class StreamingIssueDifferenceTest {
+    private static final String REFERENCE_BUILD = "100";
+    private static final String CURRENT_BUILD = "2";
+
+    @Test
+    void shouldClassifyIssuesLikeIssueDifference() {
+        var referenceIssues = new Report().addAll(
+                createIssue("OUTSTANDING 1", "OUT 1"),
+                createIssue("OUTSTANDING 2", "OUT 2"),
+                createIssue("OUTSTANDING 3", "OUT 3"),
+                createIssue("TO FIX 1", "FIX 1"),
+                createIssue("TO FIX 2", "FIX 2"));
+        var currentIssues = new Report().addAll(
+                createIssue("UPD OUTSTANDING 1", "OUT 1"),
+                createIssue("OUTSTANDING 2", "UPD OUT 2"),
+                createIssue("OUTSTANDING 3", "OUT 3"),
+                createIssue("NEW 1", "NEW 1"));
+
+        var listener = new CollectingListener();
+        new StreamingIssueDifference(CURRENT_BUILD).compute(currentIssues, referenceIssues, listener);
+
+        var difference = new IssueDifference(currentIssues, CURRENT_BUILD, referenceIssues);
+        assertThat(listener.outstanding).containsExactlyElementsOf(difference.getOutstandingIssues());
+        assertThat(listener.fixed).containsExactlyElementsOf(difference.getFixedIssues());
+        assertThat(listener.added).containsExactlyElementsOf(difference.getNewIssues());
+        assertThat(listener.inChangedCode).isEmpty();
+
+        assertThat(listener.outstanding).extracting(Issue::getReference).containsOnly(REFERENCE_BUILD);
+        assertThat(listener.added).extracting(Issue::getReference).containsOnly(CURRENT_BUILD);
+    }
+
+    @Test
+    void shouldReportNewIssuesInChangedCode() {
+        var currentIssues = List.of(
+                createIssue("CHANGED", "C", "/path/to/Changed.java"),
+                createIssue("INDIRECT", "I", "/path/to/Other.java"));
+
+        var listener = new CollectingListener();
+        new StreamingIssueDifference(CURRENT_BUILD, Map.of("Changed.java", 2))
+                .compute(currentIssues, List.of(), listener);
+
+        assertThat(listener.inChangedCode).extracting(Issue::getMessage).containsExactly("CHANGED");
+        assertThat(listener.added).extracting(Issue::getMessage).containsExactly("INDIRECT");
+        assertThat(listener.outstanding).isEmpty();
+        assertThat(listener.fixed).isEmpty();
+    }
+
+    @Test
+    void shouldTreatNewIssuesInChangedCodeAsNewIssuesByDefault() {
+        List<Issue> added = new ArrayList<>();
+        var listener = new DifferenceListener() {
+            @Override
+            public void newIssue(final Issue issue) {
+                added.add(issue);
+            }
+
+            @Override
+            public void outstandingIssue(final Issue issue) {
+                // not used in this test
+            }
+
+            @Override
+            public void fixedIssue(final Issue issue) {
+                // not used in this test
+            }
+        };
+
+        new StreamingIssueDifference(CURRENT_BUILD, Map.of("file-name", 1))
+                .compute(List.of(createIssue("NEW", "NEW")), List.of(), listener);
+
+        assertThat(added).extracting(Issue::getMessage).containsExactly("NEW");
+    }
+
+    private Issue createIssue(final String message, final String fingerprint) {
+        return createIssue(message, fingerprint, "file-name");
+    }
+
+    private Issue createIssue(final String message, final String fingerprint, final String fileName) {
+        try (var builder = new IssueBuilder()) {
+            return builder.setFileName(fileName)
+                    .setLineStart(1)
+                    .setLineEnd(2)
+                    .setCategory("category")
+                    .setType("type")
+                    .setMessage(message)
+                    .setFingerprint(fingerprint)
+                    .setReference(REFERENCE_BUILD)
+                    .build();
+        }
+    }
+
+    private static final class CollectingListener implements DifferenceListener {
+        private final List<Issue> added = new ArrayList<>();
+        private final List<Issue> inChangedCode = new ArrayList<>();
+        private final List<Issue> outstanding = new ArrayList<>();
+        private final List<Issue> fixed = new ArrayList<>();
+
+        @Override
+        public void newIssue(final Issue issue) {
+            added.add(issue);
+        }
+
+        @Override
+        public void newIssueInChangedCode(final Issue issue) {
+            inChangedCode.add(issue);
+        }
+
+        @Override
+        public void outstandingIssue(final Issue issue) {
+            outstanding.add(issue);
+        }
+
+        @Override
+        public void fixedIssue(final Issue issue) {
+            fixed.add(issue);
+        }
+    }
+}
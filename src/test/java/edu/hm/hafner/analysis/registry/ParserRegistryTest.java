@@ -39,6 +39,25 @@ class ParserRegistryTest extends ResourceTest {
                 .isThrownBy(() -> parserRegistry.get("-"));
     }
 
+    @Test
+    void shouldRegisterEachDescriptorWithItsId() {
+        var parserRegistry = new ParserRegistry();
+
+        for (String id : parserRegistry.getIds()) {
+            assertThat(parserRegistry.get(id).getId()).isEqualTo(id);
+        }
+    }
+
+    @Test
+    void shouldReturnDescriptorsInStableOrder() {
+        var parserRegistry = new ParserRegistry();
+
+        var ids = parserRegistry.getAllDescriptors().stream().map(ParserDescriptor::getId).toList();
+
+        assertThat(ids).hasSameSizeAs(parserRegistry.getIds()).startsWith("acu-cobol", "aspectj", "android-lint");
+        assertThat(new ParserRegistry().getAllDescriptors()).extracting(ParserDescriptor::getId).isEqualTo(ids);
+    }
+
     /**
      * Ensures that new parsers have the correct type assigned.
      */